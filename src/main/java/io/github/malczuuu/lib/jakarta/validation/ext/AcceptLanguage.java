@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a valid HTTP {@code
+ * Accept-Language} field value, as defined in RFC 9110.
+ *
+ * <p>The value is a comma-separated list of language ranges, each optionally followed by a weight
+ * ({@code ;q=} and a value from {@code 0} to {@code 1} with up to three decimal digits). Spaces and
+ * tabs are allowed around separators. Each language range must be either {@code *} or a well-formed
+ * BCP 47 language tag, as checked by {@link LanguageTag}.
+ *
+ * <p>The number of language ranges can be limited with {@link #maxEntries()}, which also bounds the
+ * work done for each value.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code en-US} - single language range
+ *   <li>{@code da, en-GB;q=0.8, en;q=0.7} - weighted list
+ *   <li>{@code fr-CH, fr;q=0.9, *;q=0.5} - list with a wildcard
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code en_US} - invalid language range
+ *   <li>{@code en;q=1.5} - weight greater than {@code 1}
+ *   <li>{@code en;q=0.1234} - weight with more than three decimal digits
+ *   <li>{@code en de} - missing {@code ,} separator
+ *   <li>empty or blank value - no language range
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;AcceptLanguage
+ * private String acceptLanguage;
+ *
+ * // At most 10 language ranges
+ * &#064;AcceptLanguage(maxEntries = 10)
+ * private String acceptLanguage;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(AcceptLanguage.List.class)
+@Documented
+@Constraint(validatedBy = AcceptLanguageValidator.class)
+public @interface AcceptLanguage {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid Accept-Language header";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the maximum number of language ranges in the value.
+   *
+   * @return the maximum number of language ranges, must be positive, unlimited by default
+   * @since 1.3.0
+   */
+  int maxEntries() default Integer.MAX_VALUE;
+
+  /**
+   * Defines several {@link AcceptLanguage} annotations on the same element.
+   *
+   * @see AcceptLanguage
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link AcceptLanguage} annotations.
+     *
+     * @return array of {@link AcceptLanguage} annotations
+     * @since 1.3.0
+     */
+    AcceptLanguage[] value();
+  }
+}
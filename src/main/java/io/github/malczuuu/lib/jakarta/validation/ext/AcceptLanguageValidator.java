@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link AcceptLanguage} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a valid HTTP {@code Accept-Language} field
+ * value.
+ *
+ * @since 1.3.0
+ */
+public class AcceptLanguageValidator implements ConstraintValidator<AcceptLanguage, Object> {
+
+  private int maxEntries = Integer.MAX_VALUE;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if the configured maximum number of entries is not positive
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(AcceptLanguage constraintAnnotation) throws IllegalArgumentException {
+    maxEntries = constraintAnnotation.maxEntries();
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be positive, got " + maxEntries);
+    }
+  }
+
+  /**
+   * Validates that the given value is a valid {@code Accept-Language} field value.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          AcceptLanguage.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    return AcceptLanguages.isValid((CharSequence) value, maxEntries);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+/**
+ * Streaming scanner for HTTP {@code Accept-Language} field values (RFC 9110, section 12.5.4).
+ *
+ * <p>The value is a comma-separated list of language ranges, each optionally followed by a {@code
+ * ;q=} weight, with optional whitespace around separators. Empty list elements are tolerated, as
+ * required from recipients by RFC 9110, but at least one language range must be present. Each
+ * language range is either {@code *} or a tag accepted by {@link LanguageTags#isWellFormed}.
+ *
+ * <p>The whole value is checked in a single pass, without allocating.
+ */
+final class AcceptLanguages {
+
+  private AcceptLanguages() {}
+
+  /**
+   * Checks whether the given value is a valid {@code Accept-Language} field value.
+   *
+   * @param value the value to check
+   * @param maxEntries the maximum number of language ranges, the scan stops once it is exceeded
+   * @return {@code true} if the value is valid and has at most {@code maxEntries} language ranges
+   */
+  static boolean isValid(CharSequence value, int maxEntries) {
+    int length = value.length();
+    int entries = 0;
+    int i = 0;
+    while (true) {
+      i = skipWhitespace(value, i, length);
+      if (i < length && value.charAt(i) != ',') {
+        if (++entries > maxEntries) {
+          return false;
+        }
+        int end = i;
+        while (end < length && isRangeChar(value.charAt(end))) {
+          end++;
+        }
+        if (!isLanguageRange(value, i, end)) {
+          return false;
+        }
+        i = skipWhitespace(value, end, length);
+        if (i < length && value.charAt(i) == ';') {
+          i = scanWeight(value, skipWhitespace(value, i + 1, length), length);
+          if (i < 0) {
+            return false;
+          }
+          i = skipWhitespace(value, i, length);
+        }
+      }
+      if (i == length) {
+        return entries > 0;
+      }
+      if (value.charAt(i) != ',') {
+        return false;
+      }
+      i++;
+    }
+  }
+
+  private static boolean isLanguageRange(CharSequence value, int from, int to) {
+    if (to - from == 1 && value.charAt(from) == '*') {
+      return true;
+    }
+    return LanguageTags.isWellFormed(value, from, to);
+  }
+
+  /**
+   * Scans a {@code q=} weight followed by {@code 0} or {@code 1} with up to three decimal digits,
+   * never exceeding {@code 1}.
+   *
+   * @return the position after the weight, or {@code -1} if the weight is invalid
+   */
+  private static int scanWeight(CharSequence value, int from, int length) {
+    if (from + 2 >= length) {
+      return -1;
+    }
+    char name = value.charAt(from);
+    if ((name != 'q' && name != 'Q') || value.charAt(from + 1) != '=') {
+      return -1;
+    }
+    int i = from + 2;
+    char integer = value.charAt(i++);
+    if (integer != '0' && integer != '1') {
+      return -1;
+    }
+    if (i == length || value.charAt(i) != '.') {
+      return i;
+    }
+    i++;
+    int end = Math.min(i + 3, length);
+    while (i < end) {
+      char ch = value.charAt(i);
+      if (ch < '0' || ch > '9') {
+        break;
+      }
+      if (integer == '1' && ch != '0') {
+        return -1;
+      }
+      i++;
+    }
+    return i;
+  }
+
+  private static int skipWhitespace(CharSequence value, int from, int length) {
+    int i = from;
+    while (i < length && (value.charAt(i) == ' ' || value.charAt(i) == '\t')) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean isRangeChar(char ch) {
+    return (ch >= 'a' && ch <= 'z')
+        || (ch >= 'A' && ch <= 'Z')
+        || (ch >= '0' && ch <= '9')
+        || ch == '-'
+        || ch == '*';
+  }
+}
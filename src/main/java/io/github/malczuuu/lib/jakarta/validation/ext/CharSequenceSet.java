@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.util.Collection;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable set of strings that can be probed with any {@code CharSequence} by content, with or
+ * without case sensitivity.
+ *
+ * <p>Strings are kept in an open-addressing table with linear probing, filled at most to half its
+ * capacity. Slots are indexed by a hash of the case-folded characters of their string, so the same
+ * table serves exact and case-insensitive lookups, and a {@code StringBuilder} or a {@code
+ * CharBuffer} is found without being copied. Each slot also keeps that hash, so a probe compares
+ * characters only with strings of the same hash.
+ *
+ * <p>Case-insensitive comparisons use simple case folding of each code point, as {@link
+ * String#equalsIgnoreCase(String)} does for each {@code char}, with a fast path for ASCII.
+ */
+final class CharSequenceSet {
+
+  private final @Nullable String[] keys;
+  private final int[] hashes;
+  private final int mask;
+
+  private CharSequenceSet(int capacity) {
+    this.keys = new String[capacity];
+    this.hashes = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Creates a set of the given strings, ignoring duplicates.
+   *
+   * @param values the strings to contain
+   * @return the set of strings
+   */
+  static CharSequenceSet of(Collection<String> values) {
+    CharSequenceSet set = new CharSequenceSet(Integer.highestOneBit(values.size() * 2 + 1) << 1);
+    for (String value : values) {
+      set.add(value);
+    }
+    return set;
+  }
+
+  /**
+   * Checks whether the set contains a string equal to the given value.
+   *
+   * @param value the value to look up
+   * @return {@code true} if a string with the same characters is in the set
+   */
+  boolean contains(CharSequence value) {
+    int hash = foldedHashOf(value);
+    for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+      String key = keys[i];
+      if (key == null) {
+        return false;
+      }
+      if (hashes[i] == hash && key.contentEquals(value)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Checks whether the set contains a string equal to the given value, ignoring case.
+   *
+   * @param value the value to look up
+   * @return {@code true} if a string with the same case-folded characters is in the set
+   */
+  boolean containsIgnoreCase(CharSequence value) {
+    int hash = foldedHashOf(value);
+    for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+      String key = keys[i];
+      if (key == null) {
+        return false;
+      }
+      if (hashes[i] == hash && foldedEquals(key, value)) {
+        return true;
+      }
+    }
+  }
+
+  private void add(String value) {
+    int hash = foldedHashOf(value);
+    int i = spread(hash) & mask;
+    for (String key = keys[i]; key != null; key = keys[i]) {
+      if (key.equals(value)) {
+        return;
+      }
+      i = (i + 1) & mask;
+    }
+    keys[i] = value;
+    hashes[i] = hash;
+  }
+
+  /** Returns the hash of the case-folded code points of a value. */
+  private static int foldedHashOf(CharSequence value) {
+    int hash = 0;
+    for (int i = 0, length = value.length(); i < length; ) {
+      char ch = value.charAt(i);
+      if (ch < 0x80) {
+        hash = 31 * hash + foldAscii(ch);
+        i++;
+      } else {
+        int codePoint = Character.codePointAt(value, i);
+        hash = 31 * hash + fold(codePoint);
+        i += Character.charCount(codePoint);
+      }
+    }
+    return hash;
+  }
+
+  /** Compares the case-folded code points of two values. */
+  private static boolean foldedEquals(String key, CharSequence value) {
+    int keyLength = key.length();
+    int valueLength = value.length();
+    int i = 0;
+    int j = 0;
+    while (i < keyLength && j < valueLength) {
+      char first = key.charAt(i);
+      char second = value.charAt(j);
+      if ((first | second) < 0x80) {
+        if (foldAscii(first) != foldAscii(second)) {
+          return false;
+        }
+        i++;
+        j++;
+      } else {
+        int firstCodePoint = Character.codePointAt(key, i);
+        int secondCodePoint = Character.codePointAt(value, j);
+        if (fold(firstCodePoint) != fold(secondCodePoint)) {
+          return false;
+        }
+        i += Character.charCount(firstCodePoint);
+        j += Character.charCount(secondCodePoint);
+      }
+    }
+    return i == keyLength && j == valueLength;
+  }
+
+  private static int foldAscii(char ch) {
+    return ch >= 'A' && ch <= 'Z' ? ch + ('a' - 'A') : ch;
+  }
+
+  /** Returns the simple case folding of a code point, such as {@code σ} for {@code ς}. */
+  private static int fold(int codePoint) {
+    if (codePoint < 0x80) {
+      return foldAscii((char) codePoint);
+    }
+    return Character.toLowerCase(Character.toUpperCase(codePoint));
+  }
+
+  /** Mixes the high bits of a hash into the low bits used as the table index. */
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -35,8 +35,15 @@
  * Annotation for validating that a {@code CharSequence} value is a recognized ISO 3166-1 alpha-2
  * country code (e.g. {@code US}, {@code PL}, {@code DE}).
  *
- * <p>The recognized codes are sourced from the JDK via {@link java.util.Locale#getISOCountries()}.
- * By default, matching is case-sensitive and codes must be in canonical uppercase form.
+ * <p>The recognized codes are the officially assigned ISO 3166-1 alpha-2 codes, as embedded in the
+ * library, so results are the same on every JDK version. Codes known to the running JDK via {@link
+ * java.util.Locale#getISOCountries()} can be accepted as well with {@link #includeJdkCountries}. By
+ * default, matching is case-sensitive and codes must be in canonical uppercase form.
+ *
+ * <p>The recognized codes can be narrowed down with {@link #allowed} and {@link #regions}, and
+ * individual codes can be excluded with {@link #denied}. All of them are combined into a single
+ * lookup table when the validator is initialized, so validation cost does not depend on how many
+ * codes are listed.
  *
  * <p>Accepted values include:
  *
@@ -58,6 +65,8 @@
  *
  * <ul>
  *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ *   <li>{@code Locale} - its {@link java.util.Locale#getCountry() country} is validated, so locales
+ *       without a country are rejected
  * </ul>
  *
  * <p>{@code null} elements are considered valid.
@@ -72,6 +81,14 @@
  * // Accept lowercase codes as well
  * &#064;CountryCode(ignoreCase = true)
  * private String country;
+ *
+ * // Accept only EEA countries and Switzerland
+ * &#064;CountryCode(regions = CountryCode.Region.EEA, allowed = {"CH"})
+ * private String country;
+ *
+ * // Accept any country except the listed ones
+ * &#064;CountryCode(denied = {"KP", "IR"})
+ * private String country;
  * </pre>
  *
  * @since 1.2.0
@@ -117,6 +134,86 @@
    */
   boolean ignoreCase() default false;
 
+  /**
+   * Returns whether to also accept the country codes known to the running JDK.
+   *
+   * @return {@code true} to accept the union of the embedded ISO 3166-1 codes and {@link
+   *     java.util.Locale#getISOCountries()}, {@code false} to accept only the embedded codes
+   * @since 1.3.0
+   */
+  boolean includeJdkCountries() default false;
+
+  /**
+   * Returns the country codes to accept, in addition to the ones from {@link #regions}.
+   *
+   * <p>If both {@code allowed} and {@code regions} are empty, all recognized country codes are
+   * accepted. Codes that are not recognized ISO 3166-1 alpha-2 codes never match.
+   *
+   * @return the uppercase alpha-2 codes to accept
+   * @since 1.3.0
+   */
+  String[] allowed() default {};
+
+  /**
+   * Returns the country codes to reject, even if they are {@link #allowed} or belong to one of the
+   * {@link #regions}.
+   *
+   * @return the uppercase alpha-2 codes to reject
+   * @since 1.3.0
+   */
+  String[] denied() default {};
+
+  /**
+   * Returns the predefined groups of countries to accept, in addition to the {@link #allowed}
+   * codes.
+   *
+   * @return the groups of countries to accept
+   * @since 1.3.0
+   */
+  Region[] regions() default {};
+
+  /**
+   * Predefined groups of countries that can be used with {@link CountryCode#regions()}.
+   *
+   * @since 1.3.0
+   */
+  enum Region {
+
+    /** Member states of the European Union. */
+    EU("AT BE BG CY CZ DE DK EE ES FI FR GR HR HU IE IT LT LU LV MT NL PL PT RO SE SI SK"),
+
+    /**
+     * Member states of the European Economic Area, i.e. the EU and Iceland, Liechtenstein, Norway.
+     */
+    EEA(
+        "AT BE BG CY CZ DE DK EE ES FI FR GR HR HU IE IS IT LI LT LU LV MT NL NO PL PT RO SE SI SK"),
+
+    /** Member states of the European Free Trade Association. */
+    EFTA("CH IS LI NO"),
+
+    /** Member states of the EU that use the euro as their currency. */
+    EUROZONE("AT BE BG CY DE EE ES FI FR GR HR IE IT LT LU LV MT NL PT SI SK"),
+
+    /** Countries that are full members of the Schengen Area. */
+    SCHENGEN(
+        "AT BE BG CH CZ DE DK EE ES FI FR GR HR HU IS IT LI LT LU LV MT NL NO PL PT RO SE SI SK");
+
+    private final String countryCodes;
+
+    Region(String countryCodes) {
+      this.countryCodes = countryCodes;
+    }
+
+    /**
+     * Returns the uppercase alpha-2 codes of the countries in this group.
+     *
+     * @return the country codes in this group
+     */
+    String[] countryCodes() {
+      return countryCodes.split(" ", -1);
+    }
+  }
+
   /**
    * Defines several {@link CountryCode} annotations on the same element.
    *
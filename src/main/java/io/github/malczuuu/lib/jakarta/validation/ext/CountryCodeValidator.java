@@ -19,7 +19,6 @@
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import java.util.Locale;
-import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -31,19 +30,20 @@
  */
 public class CountryCodeValidator implements ConstraintValidator<CountryCode, Object> {
 
-  private static final Set<String> ISO_COUNTRIES = Set.of(Locale.getISOCountries());
-
+  private long[] countries = CountryCodes.empty();
   private boolean ignoreCase;
 
   /**
    * Initializes the validator with the constraint annotation attributes.
    *
    * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if any of the configured codes is not two uppercase letters
    * @since 1.2.0
    */
   @Override
-  public void initialize(CountryCode constraintAnnotation) {
+  public void initialize(CountryCode constraintAnnotation) throws IllegalArgumentException {
     ignoreCase = constraintAnnotation.ignoreCase();
+    countries = resolveCountries(constraintAnnotation);
   }
 
   /**
@@ -53,6 +53,8 @@ public void initialize(CountryCode constraintAnnotation) {
    *
    * <ul>
    *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   *   <li>{@code Locale}, whose country must be a recognized code, locales without a country are
+   *       invalid
    * </ul>
    *
    * @param value the value to validate
@@ -67,6 +69,10 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
     if (value == null) {
       return true;
     }
+    if (value instanceof Locale) {
+      return CountryCodes.contains(
+          countries, CountryCodes.indexOf(((Locale) value).getCountry(), false));
+    }
     if (!(value instanceof CharSequence)) {
       throw new IllegalArgumentException(
           CountryCode.class.getSimpleName()
@@ -74,10 +80,45 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
               + value.getClass().getName()
               + " type");
     }
-    String str = value.toString();
-    if (ignoreCase) {
-      str = str.toUpperCase(Locale.ROOT);
+    return CountryCodes.contains(countries, CountryCodes.indexOf((CharSequence) value, ignoreCase));
+  }
+
+  /**
+   * Intersects the recognized country codes with the allowed codes and regions, and removes the
+   * denied codes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @return the bitmap of accepted country codes
+   * @throws IllegalArgumentException if any of the configured codes is not two uppercase letters
+   */
+  private static long[] resolveCountries(CountryCode constraintAnnotation)
+      throws IllegalArgumentException {
+    String[] allowed = constraintAnnotation.allowed();
+    CountryCode.Region[] regions = constraintAnnotation.regions();
+    String[] denied = constraintAnnotation.denied();
+
+    long[] recognized =
+        constraintAnnotation.includeJdkCountries()
+            ? CountryCodes.isoAndJdkCountries()
+            : CountryCodes.isoCountries();
+
+    if (allowed.length == 0 && regions.length == 0 && denied.length == 0) {
+      return recognized;
+    }
+
+    long[] result = CountryCodes.copyOf(recognized);
+    if (allowed.length > 0 || regions.length > 0) {
+      long[] included = CountryCodes.of(allowed);
+      for (CountryCode.Region region : regions) {
+        for (String code : region.countryCodes()) {
+          CountryCodes.set(included, CountryCodes.requireIndexOf(code));
+        }
+      }
+      CountryCodes.retainAll(result, included);
+    }
+    for (String code : denied) {
+      CountryCodes.clear(result, CountryCodes.requireIndexOf(code));
     }
-    return ISO_COUNTRIES.contains(str);
+    return result;
   }
 }
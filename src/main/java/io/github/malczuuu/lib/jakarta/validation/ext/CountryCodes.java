@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.util.Locale;
+
+/**
+ * Bitmap-based lookups of ISO 3166-1 alpha-2 country codes.
+ *
+ * <p>Every two-letter code maps to a fixed index in a {@code 26 * 26} bit table, so membership is a
+ * single bit probe regardless of how many codes a table contains.
+ *
+ * <p>The recognized codes come from an embedded snapshot of officially assigned ISO 3166-1 codes,
+ * so results do not depend on the JDK version. Tables are decoded lazily on first use.
+ */
+final class CountryCodes {
+
+  /** Officially assigned ISO 3166-1 alpha-2 codes as of CLDR 48, grouped by first letter. */
+  private static final String ISO_COUNTRIES =
+      "AD AE AF AG AI AL AM AO AQ AR AS AT AU AW AX AZ "
+          + "BA BB BD BE BF BG BH BI BJ BL BM BN BO BQ BR BS BT BV BW BY BZ "
+          + "CA CC CD CF CG CH CI CK CL CM CN CO CR CU CV CW CX CY CZ "
+          + "DE DJ DK DM DO DZ "
+          + "EC EE EG EH ER ES ET "
+          + "FI FJ FK FM FO FR "
+          + "GA GB GD GE GF GG GH GI GL GM GN GP GQ GR GS GT GU GW GY "
+          + "HK HM HN HR HT HU "
+          + "ID IE IL IM IN IO IQ IR IS IT "
+          + "JE JM JO JP "
+          + "KE KG KH KI KM KN KP KR KW KY KZ "
+          + "LA LB LC LI LK LR LS LT LU LV LY "
+          + "MA MC MD ME MF MG MH MK ML MM MN MO MP MQ MR MS MT MU MV MW MX MY MZ "
+          + "NA NC NE NF NG NI NL NO NP NR NU NZ "
+          + "OM "
+          + "PA PE PF PG PH PK PL PM PN PR PS PT PW PY "
+          + "QA "
+          + "RE RO RS RU RW "
+          + "SA SB SC SD SE SG SH SI SJ SK SL SM SN SO SR SS ST SV SX SY SZ "
+          + "TC TD TF TG TH TJ TK TL TM TN TO TR TT TV TW TZ "
+          + "UA UG UM US UY UZ "
+          + "VA VC VE VG VI VN VU "
+          + "WF WS "
+          + "YE YT "
+          + "ZA ZM ZW";
+
+  private static final int SIZE = 26 * 26;
+
+  private CountryCodes() {}
+
+  /**
+   * Returns the bitmap of country codes from the embedded ISO 3166-1 snapshot.
+   *
+   * <p>The returned array is shared and must not be modified, see {@link #copyOf(long[])}.
+   *
+   * @return the bitmap of recognized country codes
+   */
+  static long[] isoCountries() {
+    return IsoCountriesHolder.BITMAP;
+  }
+
+  /**
+   * Returns the bitmap of country codes from the embedded ISO 3166-1 snapshot, extended with the
+   * codes known to the running JDK via {@link Locale#getISOCountries()}.
+   *
+   * <p>The returned array is shared and must not be modified, see {@link #copyOf(long[])}.
+   *
+   * @return the bitmap of recognized country codes
+   */
+  static long[] isoAndJdkCountries() {
+    return JdkCountriesHolder.BITMAP;
+  }
+
+  /**
+   * Creates an empty bitmap.
+   *
+   * @return a bitmap with no country codes set
+   */
+  static long[] empty() {
+    return new long[(SIZE + 63) / 64];
+  }
+
+  /**
+   * Creates a modifiable copy of the given bitmap.
+   *
+   * @param bitmap the bitmap to copy
+   * @return a copy of the bitmap
+   */
+  static long[] copyOf(long[] bitmap) {
+    return bitmap.clone();
+  }
+
+  /**
+   * Creates a bitmap from the given country codes.
+   *
+   * @param codes the uppercase alpha-2 codes
+   * @return a bitmap with all the given codes set
+   * @throws IllegalArgumentException if any of the codes is not two uppercase ASCII letters
+   */
+  static long[] of(String... codes) throws IllegalArgumentException {
+    long[] bitmap = empty();
+    for (String code : codes) {
+      set(bitmap, requireIndexOf(code));
+    }
+    return bitmap;
+  }
+
+  /**
+   * Returns the bitmap index of the given code.
+   *
+   * @param value the value to look up
+   * @param ignoreCase whether lowercase ASCII letters are accepted
+   * @return the index of the code, or {@code -1} if the value is not two ASCII letters
+   */
+  static int indexOf(CharSequence value, boolean ignoreCase) {
+    if (value.length() != 2) {
+      return -1;
+    }
+    return indexAt(value, 0, ignoreCase);
+  }
+
+  /**
+   * Returns the bitmap index of the code at the given position of a longer value.
+   *
+   * @param value the value to look up
+   * @param from the position of the first letter, at least two characters before the end
+   * @param ignoreCase whether lowercase ASCII letters are accepted
+   * @return the index of the code, or {@code -1} if the characters are not ASCII letters
+   */
+  static int indexAt(CharSequence value, int from, boolean ignoreCase) {
+    int first = letterIndex(value.charAt(from), ignoreCase);
+    int second = letterIndex(value.charAt(from + 1), ignoreCase);
+    if (first < 0 || second < 0) {
+      return -1;
+    }
+    return first * 26 + second;
+  }
+
+  /**
+   * Returns the bitmap index of the given code, failing if the code is malformed.
+   *
+   * @param code the uppercase alpha-2 code
+   * @return the index of the code
+   * @throws IllegalArgumentException if the code is not two uppercase ASCII letters
+   */
+  static int requireIndexOf(String code) throws IllegalArgumentException {
+    int index = indexOf(code, false);
+    if (index < 0) {
+      throw new IllegalArgumentException(
+          "'" + code + "' is not an uppercase ISO 3166-1 alpha-2 country code");
+    }
+    return index;
+  }
+
+  /**
+   * Checks whether the given index is set in the bitmap.
+   *
+   * @param bitmap the bitmap to probe
+   * @param index the index of a code, may be {@code -1}
+   * @return {@code true} if the index is non-negative and set, {@code false} otherwise
+   */
+  static boolean contains(long[] bitmap, int index) {
+    return index >= 0 && (bitmap[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Sets the given index in the bitmap.
+   *
+   * @param bitmap the bitmap to modify
+   * @param index the index of a code
+   */
+  static void set(long[] bitmap, int index) {
+    bitmap[index >>> 6] |= 1L << index;
+  }
+
+  /**
+   * Clears the given index in the bitmap.
+   *
+   * @param bitmap the bitmap to modify
+   * @param index the index of a code
+   */
+  static void clear(long[] bitmap, int index) {
+    bitmap[index >>> 6] &= ~(1L << index);
+  }
+
+  /**
+   * Keeps in {@code target} only the codes that are also set in {@code mask}.
+   *
+   * @param target the bitmap to modify
+   * @param mask the bitmap to intersect with
+   */
+  static void retainAll(long[] target, long[] mask) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] &= mask[i];
+    }
+  }
+
+  private static long[] decode(String table) {
+    long[] bitmap = empty();
+    for (int i = 0; i < table.length(); i += 3) {
+      set(bitmap, (table.charAt(i) - 'A') * 26 + (table.charAt(i + 1) - 'A'));
+    }
+    return bitmap;
+  }
+
+  private static int letterIndex(char ch, boolean ignoreCase) {
+    if (ch >= 'A' && ch <= 'Z') {
+      return ch - 'A';
+    }
+    if (ignoreCase && ch >= 'a' && ch <= 'z') {
+      return ch - 'a';
+    }
+    return -1;
+  }
+
+  private static final class IsoCountriesHolder {
+
+    private static final long[] BITMAP = decode(ISO_COUNTRIES);
+  }
+
+  private static final class JdkCountriesHolder {
+
+    private static final long[] BITMAP = union(isoCountries(), of(Locale.getISOCountries()));
+
+    private static long[] union(long[] first, long[] second) {
+      long[] result = copyOf(first);
+      for (int i = 0; i < result.length; i++) {
+        result[i] |= second[i];
+      }
+      return result;
+    }
+  }
+}
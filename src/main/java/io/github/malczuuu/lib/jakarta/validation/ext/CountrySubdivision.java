@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a recognized ISO 3166-2 country
+ * subdivision code (e.g. {@code US-CA}, {@code PL-14}).
+ *
+ * <p>The recognized codes come from an ISO 3166-2 snapshot embedded in the library. By default,
+ * matching is case-sensitive and codes must be in canonical uppercase form. Validation can be
+ * restricted to subdivisions of specific parent countries with {@link #countries}.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code US-CA} - California, United States
+ *   <li>{@code PL-14} - Mazowieckie, Poland
+ *   <li>{@code GB-ENG} - England, United Kingdom
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code us-ca} - lowercase (unless {@link #ignoreCase} is {@code true})
+ *   <li>{@code US-XX} - not a recognized subdivision of the country
+ *   <li>{@code USCA} - missing {@code -} separator
+ *   <li>{@code US} - country code only
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * // Any recognized subdivision
+ * &#064;CountrySubdivision
+ * private String region;
+ *
+ * // Only subdivisions of Poland and the United States
+ * &#064;CountrySubdivision(countries = {"PL", "US"})
+ * private String region;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(CountrySubdivision.List.class)
+@Documented
+@Constraint(validatedBy = CountrySubdivisionValidator.class)
+public @interface CountrySubdivision {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid country subdivision code";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns whether to ignore case when matching the subdivision code.
+   *
+   * @return whether to ignore case when matching the subdivision code, {@code false} requires
+   *     canonical uppercase (e.g. {@code US-CA})
+   * @since 1.3.0
+   */
+  boolean ignoreCase() default false;
+
+  /**
+   * Returns the parent countries whose subdivisions are accepted.
+   *
+   * @return the uppercase ISO 3166-1 alpha-2 codes of the parent countries, empty to accept
+   *     subdivisions of any country
+   * @since 1.3.0
+   */
+  String[] countries() default {};
+
+  /**
+   * Defines several {@link CountrySubdivision} annotations on the same element.
+   *
+   * @see CountrySubdivision
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link CountrySubdivision} annotations.
+     *
+     * @return array of {@link CountrySubdivision} annotations
+     * @since 1.3.0
+     */
+    CountrySubdivision[] value();
+  }
+}
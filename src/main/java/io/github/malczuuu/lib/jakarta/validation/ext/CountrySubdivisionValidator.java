@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link CountrySubdivision} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a recognized ISO 3166-2 subdivision code.
+ *
+ * @since 1.3.0
+ */
+public class CountrySubdivisionValidator
+    implements ConstraintValidator<CountrySubdivision, Object> {
+
+  private long[] countries = CountryCodes.empty();
+  private boolean ignoreCase;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if any of the configured countries is not two uppercase
+   *     letters
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(CountrySubdivision constraintAnnotation) throws IllegalArgumentException {
+    ignoreCase = constraintAnnotation.ignoreCase();
+    countries =
+        constraintAnnotation.countries().length > 0
+            ? CountryCodes.of(constraintAnnotation.countries())
+            : CountrySubdivisions.parentCountries();
+  }
+
+  /**
+   * Validates that the given value is a recognized ISO 3166-2 subdivision code.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          CountrySubdivision.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    return CountrySubdivisions.contains((CharSequence) value, countries, ignoreCase);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lookups of ISO 3166-2 subdivision codes (e.g. {@code PL-14}, {@code US-CA}).
+ *
+ * <p>The codes are loaded lazily from the embedded {@value #RESOURCE} snapshot into a two-level
+ * table. The first level is indexed directly by the parent country code (see {@link
+ * CountryCodes#indexOf(CharSequence, boolean)}) and points to a sorted run of subdivision suffixes,
+ * each packed into a single {@code char}. A lookup is one array access and a binary search over the
+ * subdivisions of a single country, without any allocation.
+ */
+final class CountrySubdivisions {
+
+  /** Name of the embedded resource with the subdivision codes. */
+  static final String RESOURCE = "iso3166-2.txt";
+
+  private static final int RADIX = 37;
+  private static final int MAX_SUFFIX_LENGTH = 3;
+
+  private CountrySubdivisions() {}
+
+  /**
+   * Checks whether the given value is a known subdivision code.
+   *
+   * @param value the value to check, e.g. {@code US-CA}
+   * @param countries the bitmap of accepted parent countries
+   * @param ignoreCase whether lowercase ASCII letters are accepted
+   * @return {@code true} if the value is a known subdivision of one of the accepted countries
+   */
+  static boolean contains(CharSequence value, long[] countries, boolean ignoreCase) {
+    int length = value.length();
+    if (length < 4 || length > 3 + MAX_SUFFIX_LENGTH || value.charAt(2) != '-') {
+      return false;
+    }
+    int country = CountryCodes.indexAt(value, 0, ignoreCase);
+    if (!CountryCodes.contains(countries, country)) {
+      return false;
+    }
+    int suffix = packSuffix(value, 3, length, ignoreCase);
+    if (suffix < 0) {
+      return false;
+    }
+    Table table = Table.INSTANCE;
+    int from = table.offsets[country];
+    int to = table.offsets[country + 1];
+    return from < to && Arrays.binarySearch(table.suffixes, from, to, (char) suffix) >= 0;
+  }
+
+  /**
+   * Returns the bitmap of countries that have at least one subdivision.
+   *
+   * <p>The returned array is shared and must not be modified.
+   *
+   * @return the bitmap of parent countries
+   */
+  static long[] parentCountries() {
+    return Table.INSTANCE.countries;
+  }
+
+  private static int packSuffix(CharSequence value, int from, int to, boolean ignoreCase) {
+    int packed = 0;
+    for (int i = 0; i < MAX_SUFFIX_LENGTH; i++) {
+      int digit = 0;
+      if (from + i < to) {
+        digit = suffixDigit(value.charAt(from + i), ignoreCase);
+        if (digit == 0) {
+          return -1;
+        }
+      }
+      packed = packed * RADIX + digit;
+    }
+    return packed;
+  }
+
+  private static int suffixDigit(char ch, boolean ignoreCase) {
+    if (ch >= '0' && ch <= '9') {
+      return ch - '0' + 1;
+    }
+    if (ch >= 'A' && ch <= 'Z') {
+      return ch - 'A' + 11;
+    }
+    if (ignoreCase && ch >= 'a' && ch <= 'z') {
+      return ch - 'a' + 11;
+    }
+    return 0;
+  }
+
+  private static final class Table {
+
+    private static final Table INSTANCE = load();
+
+    private final long[] countries;
+    private final int[] offsets;
+    private final char[] suffixes;
+
+    private Table(long[] countries, int[] offsets, char[] suffixes) {
+      this.countries = countries;
+      this.offsets = offsets;
+      this.suffixes = suffixes;
+    }
+
+    private static Table load() {
+      String[] lines = readLines();
+      char[][] byCountry = new char[26 * 26][];
+      int total = 0;
+      for (String line : lines) {
+        String[] tokens = line.split(" ", -1);
+        char[] suffixes = new char[tokens.length - 1];
+        for (int i = 1; i < tokens.length; i++) {
+          suffixes[i - 1] = (char) packSuffix(tokens[i], 0, tokens[i].length(), false);
+        }
+        Arrays.sort(suffixes);
+        byCountry[CountryCodes.requireIndexOf(tokens[0])] = suffixes;
+        total += suffixes.length;
+      }
+
+      long[] countries = CountryCodes.empty();
+      int[] offsets = new int[byCountry.length + 1];
+      char[] suffixes = new char[total];
+      int offset = 0;
+      for (int i = 0; i < byCountry.length; i++) {
+        offsets[i] = offset;
+        if (byCountry[i] != null) {
+          CountryCodes.set(countries, i);
+          System.arraycopy(byCountry[i], 0, suffixes, offset, byCountry[i].length);
+          offset += byCountry[i].length;
+        }
+      }
+      offsets[byCountry.length] = offset;
+      return new Table(countries, offsets, suffixes);
+    }
+
+    private static String[] readLines() {
+      InputStream stream = CountrySubdivisions.class.getResourceAsStream(RESOURCE);
+      if (stream == null) {
+        throw new IllegalStateException("Missing " + RESOURCE + " resource");
+      }
+      try (BufferedReader reader =
+          new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+        return reader
+            .lines()
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .toArray(String[]::new);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.format.ResolverStyle;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value matches a custom date-time pattern.
+ *
+ * <p>The value must be parsed and resolved by a {@link java.time.format.DateTimeFormatter} created
+ * with {@link java.time.format.DateTimeFormatter#ofPattern(String, java.util.Locale)} from {@link
+ * #pattern()} and {@link #locale()}, using {@link #resolverStyle()}. Formatters are shared by all
+ * constraints with the same pattern, locale and resolver style.
+ *
+ * <p>With the default {@link ResolverStyle#STRICT} resolver style, a year-of-era without an era is
+ * never resolved to a date, so days such as {@code 31/02/2024} would not be rejected. Patterns with
+ * {@code y} but without {@code G} are therefore refused, and {@code u} must be used for the year
+ * instead.
+ *
+ * <p>Accepted values for {@code dd/MM/uuuu} include:
+ *
+ * <ul>
+ *   <li>{@code 15/01/2024}
+ *   <li>{@code 29/02/2024} - leap day
+ * </ul>
+ *
+ * <p>Rejected values for {@code dd/MM/uuuu} include:
+ *
+ * <ul>
+ *   <li>{@code 2024-01-15} - different pattern
+ *   <li>{@code 5/01/2024} - missing leading zero
+ *   <li>{@code 29/02/2023} - not a leap year
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;DateTimePattern(pattern = "dd/MM/uuuu")
+ * private String birthDate;
+ *
+ * // Month names in German
+ * &#064;DateTimePattern(pattern = "d. MMMM uuuu", locale = "de")
+ * private String publishedOn;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(DateTimePattern.List.class)
+@Documented
+@Constraint(validatedBy = DateTimePatternValidator.class)
+public @interface DateTimePattern {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must match the date-time pattern {pattern}";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the pattern the value must match.
+   *
+   * @return a pattern as accepted by {@link java.time.format.DateTimeFormatter#ofPattern(String)},
+   *     such as {@code dd/MM/uuuu}
+   * @since 1.3.0
+   */
+  String pattern();
+
+  /**
+   * Returns the locale of the pattern, used for text fields such as month names.
+   *
+   * @return a BCP 47 language tag such as {@code de-DE}, empty for {@link java.util.Locale#ROOT}
+   * @since 1.3.0
+   */
+  String locale() default "";
+
+  /**
+   * Returns the resolver style used to check the parsed fields.
+   *
+   * <p>With {@link ResolverStyle#STRICT}, the pattern may not have a year-of-era {@code y} without
+   * an era {@code G}.
+   *
+   * @return the resolver style
+   * @since 1.3.0
+   */
+  ResolverStyle resolverStyle() default ResolverStyle.STRICT;
+
+  /**
+   * Defines several {@link DateTimePattern} annotations on the same element.
+   *
+   * @see DateTimePattern
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link DateTimePattern} annotations.
+     *
+     * @return array of {@link DateTimePattern} annotations
+     * @since 1.3.0
+     */
+    DateTimePattern[] value();
+  }
+}
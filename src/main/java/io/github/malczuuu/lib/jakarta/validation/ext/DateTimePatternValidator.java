@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link DateTimePattern} annotation.
+ *
+ * <p>Checks if the value of the annotated element matches a custom date-time pattern.
+ *
+ * @since 1.3.0
+ */
+public class DateTimePatternValidator implements ConstraintValidator<DateTimePattern, Object> {
+
+  private DateTimePatterns.@Nullable Compiled compiled;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if the pattern is not valid, if the locale is not a
+   *     well-formed language tag, or if the pattern has a year-of-era without an era with the
+   *     {@link ResolverStyle#STRICT} resolver style
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(DateTimePattern constraintAnnotation) throws IllegalArgumentException {
+    String pattern = constraintAnnotation.pattern();
+    ResolverStyle resolverStyle = constraintAnnotation.resolverStyle();
+    compiled =
+        DateTimePatterns.compile(pattern, localeOf(constraintAnnotation.locale()), resolverStyle);
+    if (resolverStyle == ResolverStyle.STRICT && DateTimePatterns.hasYearOfEraWithoutEra(pattern)) {
+      throw new IllegalArgumentException(
+          "'" + pattern + "' has a year-of-era without an era, use 'u' instead of 'y'");
+    }
+  }
+
+  /**
+   * Validates that the given value matches the date-time pattern.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          DateTimePattern.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    return Objects.requireNonNull(compiled).matches((CharSequence) value);
+  }
+
+  /**
+   * Resolves the locale of the pattern.
+   *
+   * @param tag the BCP 47 language tag, or an empty string
+   * @return the locale, or {@link Locale#ROOT} if the tag is empty
+   * @throws IllegalArgumentException if the tag is not a well-formed language tag
+   */
+  private static Locale localeOf(String tag) throws IllegalArgumentException {
+    if (tag.isEmpty()) {
+      return Locale.ROOT;
+    }
+    if (!LanguageTags.isWellFormed(tag)) {
+      throw new IllegalArgumentException("'" + tag + "' is not a well-formed language tag");
+    }
+    return Locale.forLanguageTag(tag);
+  }
+}
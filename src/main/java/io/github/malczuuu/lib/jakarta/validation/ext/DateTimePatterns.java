@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Library-wide cache of {@link DateTimeFormatter}s compiled from patterns.
+ *
+ * <p>Formatters are kept in a fixed-size, direct-mapped table indexed by the pattern, the locale
+ * and the resolver style, so the cache never grows beyond {@value #SIZE} entries. A colliding
+ * pattern replaces the previous entry. Entries are immutable, so the table is shared between
+ * threads without locking.
+ *
+ * <p>Along with the formatter, each entry holds the shape of the pattern: the literals and the
+ * numeric fields of known width that values must have, as far as they can be told from the pattern
+ * alone. Values are matched against the shape before being parsed, so values of the wrong length or
+ * with misplaced digits are rejected without the exception thrown by {@link
+ * DateTimeFormatter#parse(CharSequence)}.
+ */
+final class DateTimePatterns {
+
+  private static final int SIZE = 64;
+
+  private static final int LITERAL = 1;
+  private static final int DIGITS = 2;
+  private static final int SIGNED = 3;
+  private static final int MAX_WIDTH = 19;
+
+  private static final AtomicReferenceArray<@Nullable Compiled> CACHE =
+      new AtomicReferenceArray<>(SIZE);
+
+  private DateTimePatterns() {}
+
+  /**
+   * Returns the compiled form of the given pattern, from the cache if possible.
+   *
+   * @param pattern the pattern, as accepted by {@link DateTimeFormatter#ofPattern(String, Locale)}
+   * @param locale the locale of the formatter
+   * @param resolverStyle the resolver style of the formatter
+   * @return the compiled pattern
+   * @throws IllegalArgumentException if the pattern is not valid
+   */
+  static Compiled compile(String pattern, Locale locale, ResolverStyle resolverStyle)
+      throws IllegalArgumentException {
+    int index = indexOf(pattern, locale, resolverStyle);
+    Compiled compiled = CACHE.get(index);
+    if (compiled != null && compiled.is(pattern, locale, resolverStyle)) {
+      return compiled;
+    }
+    DateTimeFormatter formatter;
+    try {
+      formatter = DateTimeFormatter.ofPattern(pattern, locale).withResolverStyle(resolverStyle);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("'" + pattern + "' is not a valid date-time pattern", e);
+    }
+    compiled = new Compiled(pattern, locale, resolverStyle, formatter, shapeOf(pattern));
+    CACHE.set(index, compiled);
+    return compiled;
+  }
+
+  private static int indexOf(String pattern, Locale locale, ResolverStyle resolverStyle) {
+    int hash = (pattern.hashCode() * 31 + locale.hashCode()) * 31 + resolverStyle.hashCode();
+    return (hash ^ (hash >>> 16)) & (SIZE - 1);
+  }
+
+  /**
+   * Computes the shape of a pattern, see {@link Compiled#matches(CharSequence)}.
+   *
+   * <p>The shape is a sequence of elements, each packed into an {@code int} with its kind in the
+   * highest byte. A literal holds its character in the lowest 16 bits, and a numeric field holds
+   * its minimum and maximum number of digits in the second and the lowest byte. A numeric field
+   * that may be signed, such as a year, is only matched if the value has no sign there. Text fields
+   * and optional sections end the shape, as do fields of variable width followed by a digit, which
+   * the formatter may split differently than a left-to-right scan. The shape is complete if it
+   * covers the whole pattern, and the last element is then followed by {@code -1}.
+   *
+   * @param pattern a valid pattern
+   * @return the elements of the shape
+   */
+  private static int[] shapeOf(String pattern) {
+    int[] shape = new int[pattern.length() + 1];
+    int size = 0;
+    int length = pattern.length();
+    int i = 0;
+    while (i < length) {
+      char ch = pattern.charAt(i);
+      if (ch == '\'') {
+        int end = indexOfClosingQuote(pattern, i + 1);
+        if (end == i + 1) {
+          shape[size++] = literal('\'');
+        }
+        for (int j = i + 1; j < end; j++) {
+          if (pattern.charAt(j) == '\'') {
+            j++;
+          }
+          shape[size++] = literal(pattern.charAt(j));
+        }
+        i = end + 1;
+        continue;
+      }
+      if ((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z')) {
+        int count = 1;
+        while (i + count < length && pattern.charAt(i + count) == ch) {
+          count++;
+        }
+        int element = fieldOf(ch, count);
+        if (element == 0) {
+          break;
+        }
+        shape[size++] = element;
+        i += count;
+        continue;
+      }
+      if (ch == '[' || ch == ']' || ch == '{' || ch == '}' || ch == '#') {
+        break;
+      }
+      shape[size++] = literal(ch);
+      i++;
+    }
+    int kept = truncateAmbiguous(shape, size);
+    if (i == length && kept == size) {
+      shape[kept++] = -1;
+    }
+    return Arrays.copyOf(shape, kept);
+  }
+
+  /**
+   * Returns whether a pattern has a year-of-era field but no era field, so that a {@link
+   * ResolverStyle#STRICT} formatter never resolves it to a date.
+   *
+   * @param pattern a valid pattern
+   * @return {@code true} if {@code y} appears outside of literals and {@code G} does not
+   */
+  static boolean hasYearOfEraWithoutEra(String pattern) {
+    boolean yearOfEra = false;
+    int i = 0;
+    while (i < pattern.length()) {
+      char ch = pattern.charAt(i);
+      if (ch == '\'') {
+        i = indexOfClosingQuote(pattern, i + 1) + 1;
+        continue;
+      }
+      if (ch == 'G') {
+        return false;
+      }
+      yearOfEra |= ch == 'y';
+      i++;
+    }
+    return yearOfEra;
+  }
+
+  /** Returns the position of the quote closing a literal, where two quotes stand for one. */
+  private static int indexOfClosingQuote(String pattern, int from) {
+    int i = from;
+    while (i + 1 < pattern.length()
+        && (pattern.charAt(i) != '\'' || pattern.charAt(i + 1) == '\'')) {
+      i += pattern.charAt(i) == '\'' ? 2 : 1;
+    }
+    return i;
+  }
+
+  /**
+   * Ends the shape before the first field of variable width that is followed by a digit.
+   *
+   * @param shape the elements of the shape
+   * @param size the number of elements
+   * @return the number of elements to keep
+   */
+  private static int truncateAmbiguous(int[] shape, int size) {
+    for (int i = 0; i + 1 < size; i++) {
+      if (shape[i] >>> 24 != LITERAL && minDigits(shape[i]) != maxDigits(shape[i])) {
+        int next = shape[i + 1];
+        if (next >>> 24 != LITERAL || isDigit((char) next)) {
+          return i;
+        }
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the shape element of a numeric field of known width.
+   *
+   * @param letter the pattern letter
+   * @param count the number of repetitions of the letter
+   * @return the element, or {@code 0} if the field is not numeric or its width is not known
+   */
+  private static int fieldOf(char letter, int count) {
+    switch (letter) {
+      case 'u':
+      case 'y':
+        if (count == 2) {
+          return digits(2, 2);
+        }
+        return count == 4 ? SIGNED << 24 | 4 << 8 | 4 : 0;
+      case 'M':
+      case 'L':
+      case 'd':
+      case 'H':
+      case 'h':
+      case 'K':
+      case 'k':
+      case 'm':
+      case 's':
+        if (count == 1) {
+          return SIGNED << 24 | 1 << 8 | MAX_WIDTH;
+        }
+        return count == 2 ? digits(2, 2) : 0;
+      case 'D':
+        if (count == 1) {
+          return SIGNED << 24 | 1 << 8 | MAX_WIDTH;
+        }
+        return count == 2 ? digits(2, 3) : digits(3, 3);
+      case 'S':
+        return count <= 9 ? digits(count, count) : 0;
+      default:
+        return 0;
+    }
+  }
+
+  private static int literal(char ch) {
+    return LITERAL << 24 | ch;
+  }
+
+  private static int digits(int min, int max) {
+    return DIGITS << 24 | min << 8 | max;
+  }
+
+  private static int minDigits(int element) {
+    return (element >>> 8) & 0xFF;
+  }
+
+  private static int maxDigits(int element) {
+    return element & 0xFF;
+  }
+
+  private static boolean isDigit(char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  /** A formatter compiled from a pattern, along with the shape of the pattern. */
+  static final class Compiled {
+
+    private final String pattern;
+    private final Locale locale;
+    private final ResolverStyle resolverStyle;
+    private final DateTimeFormatter formatter;
+    private final int[] shape;
+
+    private Compiled(
+        String pattern,
+        Locale locale,
+        ResolverStyle resolverStyle,
+        DateTimeFormatter formatter,
+        int[] shape) {
+      this.pattern = pattern;
+      this.locale = locale;
+      this.resolverStyle = resolverStyle;
+      this.formatter = formatter;
+      this.shape = shape;
+    }
+
+    private boolean is(String pattern, Locale locale, ResolverStyle resolverStyle) {
+      return this.resolverStyle == resolverStyle
+          && this.pattern.equals(pattern)
+          && this.locale.equals(locale);
+    }
+
+    /**
+     * Checks whether the given value can be parsed by the formatter.
+     *
+     * <p>The value is first matched against the shape of the pattern, and only parsed if it
+     * matches.
+     *
+     * @param value the value to check
+     * @return {@code true} if the value is parsed and resolved by the formatter
+     */
+    boolean matches(CharSequence value) {
+      if (!matchesShape(value)) {
+        return false;
+      }
+      try {
+        formatter.parse(value);
+        return true;
+      } catch (DateTimeParseException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Checks whether the given value has the shape of the pattern.
+     *
+     * @param value the value to check
+     * @return {@code false} if the value is certainly rejected by the formatter, {@code true} if it
+     *     may be accepted
+     */
+    boolean matchesShape(CharSequence value) {
+      int length = value.length();
+      int position = 0;
+      for (int element : shape) {
+        switch (element >>> 24) {
+          case LITERAL:
+            if (position == length || value.charAt(position) != (char) element) {
+              return false;
+            }
+            position++;
+            break;
+          case SIGNED:
+            if (position < length
+                && (value.charAt(position) == '+' || value.charAt(position) == '-')) {
+              return true;
+            }
+          // fall through
+          case DIGITS:
+            int start = position;
+            int end = Math.min(length, start + maxDigits(element));
+            while (position < end && isDigit(value.charAt(position))) {
+              position++;
+            }
+            if (position - start < minDigits(element)) {
+              return false;
+            }
+            break;
+          default:
+            return position == length;
+        }
+      }
+      return true;
+    }
+  }
+}
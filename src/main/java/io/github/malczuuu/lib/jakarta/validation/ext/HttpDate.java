@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a valid HTTP date, as used in
+ * headers such as {@code Date}, {@code Last-Modified} or {@code Expires}.
+ *
+ * <p>The value must be in the {@code IMF-fixdate} format defined by RFC 7231, e.g. {@code Sun, 06
+ * Nov 1994 08:49:37 GMT}. Day and month names are case-sensitive, the time zone is always {@code
+ * GMT}, and the day of week must match the date. The obsolete RFC 850 and {@code asctime()} formats
+ * can be accepted in addition with {@link #formats()}.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code Sun, 06 Nov 1994 08:49:37 GMT} - {@code IMF-fixdate}
+ *   <li>{@code Thu, 29 Feb 2024 23:59:59 GMT} - leap day
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code Mon, 06 Nov 1994 08:49:37 GMT} - day of week does not match the date
+ *   <li>{@code Sun, 6 Nov 1994 08:49:37 GMT} - non-padded day
+ *   <li>{@code sun, 06 nov 1994 08:49:37 GMT} - lowercase names
+ *   <li>{@code Sun, 06 Nov 1994 08:49:37 +0000} - time zone other than {@code GMT}
+ *   <li>{@code Sunday, 06-Nov-94 08:49:37 GMT} - RFC 850 format, unless accepted
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;HttpDate
+ * private String lastModified;
+ *
+ * // Also accept the obsolete formats, as recipients are required to by RFC 7231
+ * &#064;HttpDate(formats = {Format.IMF_FIXDATE, Format.RFC_850, Format.ASCTIME})
+ * private String ifModifiedSince;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(HttpDate.List.class)
+@Documented
+@Constraint(validatedBy = HttpDateValidator.class)
+public @interface HttpDate {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid HTTP date";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the HTTP date formats to accept.
+   *
+   * @return the accepted formats, at least one
+   * @since 1.3.0
+   */
+  Format[] formats() default {Format.IMF_FIXDATE};
+
+  /**
+   * HTTP date formats that can be used with {@link HttpDate#formats()}.
+   *
+   * @since 1.3.0
+   */
+  enum Format {
+
+    /** Preferred format, e.g. {@code Sun, 06 Nov 1994 08:49:37 GMT}. */
+    IMF_FIXDATE,
+
+    /**
+     * Obsolete RFC 850 format with a two-digit year, e.g. {@code Sunday, 06-Nov-94 08:49:37 GMT}.
+     *
+     * <p>The year is resolved to the one at most 50 years after the current year of the {@link
+     * jakarta.validation.ClockProvider} of the validator factory.
+     */
+    RFC_850,
+
+    /** Obsolete ANSI C {@code asctime()} format, e.g. {@code Sun Nov 6 08:49:37 1994}. */
+    ASCTIME
+  }
+
+  /**
+   * Defines several {@link HttpDate} annotations on the same element.
+   *
+   * @see HttpDate
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link HttpDate} annotations.
+     *
+     * @return array of {@link HttpDate} annotations
+     * @since 1.3.0
+     */
+    HttpDate[] value();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.time.Year;
+import java.time.ZoneOffset;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link HttpDate} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a valid HTTP date.
+ *
+ * @since 1.3.0
+ */
+public class HttpDateValidator implements ConstraintValidator<HttpDate, Object> {
+
+  private int formats;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if no format is accepted
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(HttpDate constraintAnnotation) throws IllegalArgumentException {
+    formats = formatsOf(constraintAnnotation.formats());
+  }
+
+  /**
+   * Validates that the given value is a valid HTTP date in one of the accepted formats.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          HttpDate.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    CharSequence date = (CharSequence) value;
+    int format = HttpDates.formatOf(date);
+    if ((formats & format) == 0) {
+      return false;
+    }
+    switch (format) {
+      case HttpDates.IMF_FIXDATE:
+        return HttpDates.isImfFixdate(date);
+      case HttpDates.RFC_850:
+        return HttpDates.isRfc850(date, currentYear(context));
+      default:
+        return HttpDates.isAsctime(date);
+    }
+  }
+
+  private static int currentYear(ConstraintValidatorContext context) {
+    return Year.now(context.getClockProvider().getClock().withZone(ZoneOffset.UTC)).getValue();
+  }
+
+  /**
+   * Combines the given formats into flags.
+   *
+   * @param formats the accepted formats
+   * @return the combined flags
+   * @throws IllegalArgumentException if no format is given
+   */
+  private static int formatsOf(HttpDate.Format[] formats) throws IllegalArgumentException {
+    if (formats.length == 0) {
+      throw new IllegalArgumentException("formats must not be empty");
+    }
+    int flags = 0;
+    for (HttpDate.Format format : formats) {
+      switch (format) {
+        case IMF_FIXDATE:
+          flags |= HttpDates.IMF_FIXDATE;
+          break;
+        case RFC_850:
+          flags |= HttpDates.RFC_850;
+          break;
+        case ASCTIME:
+          flags |= HttpDates.ASCTIME;
+          break;
+      }
+    }
+    return flags;
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+/**
+ * Fixed-layout scanner for HTTP dates, as defined in RFC 7231.
+ *
+ * <p>Day and month names are compared as three ASCII characters packed into a single {@code int},
+ * so every name lookup is a handful of integer comparisons. Values are checked in place, without
+ * allocating and without throwing exceptions for invalid values. All names are case-sensitive, and
+ * the day of week must match the date.
+ */
+final class HttpDates {
+
+  /** Preferred {@code IMF-fixdate} format, e.g. {@code Sun, 06 Nov 1994 08:49:37 GMT}. */
+  static final int IMF_FIXDATE = 1;
+
+  /** Obsolete RFC 850 format, e.g. {@code Sunday, 06-Nov-94 08:49:37 GMT}. */
+  static final int RFC_850 = 1 << 1;
+
+  /** Obsolete ANSI C {@code asctime()} format, e.g. {@code Sun Nov 6 08:49:37 1994}. */
+  static final int ASCTIME = 1 << 2;
+
+  private static final int IMF_FIXDATE_LENGTH = 29;
+  private static final int ASCTIME_LENGTH = 24;
+
+  /** Length of the RFC 850 format after the comma following the day name. */
+  private static final int RFC_850_TAIL_LENGTH = 24;
+
+  private static final int GMT = pack("GMT");
+
+  /** Short day names, from Monday. */
+  private static final int[] DAY_NAMES = {
+    pack("Mon"), pack("Tue"), pack("Wed"), pack("Thu"), pack("Fri"), pack("Sat"), pack("Sun")
+  };
+
+  /** The rest of the full day names, following their first three letters, from Monday. */
+  private static final String[] DAY_NAME_ENDINGS = {
+    "day", "sday", "nesday", "rsday", "day", "urday", "day"
+  };
+
+  private static final int[] MONTH_NAMES = {
+    pack("Jan"),
+    pack("Feb"),
+    pack("Mar"),
+    pack("Apr"),
+    pack("May"),
+    pack("Jun"),
+    pack("Jul"),
+    pack("Aug"),
+    pack("Sep"),
+    pack("Oct"),
+    pack("Nov"),
+    pack("Dec")
+  };
+
+  private HttpDates() {}
+
+  /**
+   * Returns the format the given value would have, judging by the character following its day name.
+   *
+   * @param value the value to classify
+   * @return {@link #IMF_FIXDATE}, {@link #RFC_850} or {@link #ASCTIME}, or {@code 0} if the value
+   *     has none of these shapes
+   */
+  static int formatOf(CharSequence value) {
+    if (value.length() < ASCTIME_LENGTH) {
+      return 0;
+    }
+    char ch = value.charAt(3);
+    if (ch == ',') {
+      return IMF_FIXDATE;
+    }
+    if (ch == ' ') {
+      return ASCTIME;
+    }
+    return ch >= 'a' && ch <= 'z' ? RFC_850 : 0;
+  }
+
+  /**
+   * Checks whether the given value is an {@code IMF-fixdate}, such as {@code Sun, 06 Nov 1994
+   * 08:49:37 GMT}.
+   *
+   * @param value the value to check
+   * @return {@code true} if the value is a valid {@code IMF-fixdate}
+   */
+  static boolean isImfFixdate(CharSequence value) {
+    if (value.length() != IMF_FIXDATE_LENGTH
+        || value.charAt(3) != ','
+        || value.charAt(4) != ' '
+        || value.charAt(7) != ' '
+        || value.charAt(11) != ' '
+        || value.charAt(16) != ' '
+        || value.charAt(25) != ' '
+        || packAt(value, 26) != GMT) {
+      return false;
+    }
+    int dayOfWeek = dayOfWeekAt(value, 0);
+    int day = IsoScanner.twoDigits(value, 5);
+    int month = monthAt(value, 8);
+    int year = fourDigits(value, 12);
+    return isTime(value, 17) && isDate(year, month, day, dayOfWeek);
+  }
+
+  /**
+   * Checks whether the given value is an obsolete RFC 850 date, such as {@code Sunday, 06-Nov-94
+   * 08:49:37 GMT}.
+   *
+   * <p>The two-digit year is resolved to the year with the same last two digits that is at most 50
+   * years after the current year, as required by RFC 7231.
+   *
+   * @param value the value to check
+   * @param currentYear the current year
+   * @return {@code true} if the value is a valid RFC 850 date
+   */
+  static boolean isRfc850(CharSequence value, int currentYear) {
+    if (value.length() < 3) {
+      return false;
+    }
+    int dayOfWeek = dayOfWeekAt(value, 0);
+    if (dayOfWeek < 0) {
+      return false;
+    }
+    String ending = DAY_NAME_ENDINGS[dayOfWeek - 1];
+    int comma = 3 + ending.length();
+    if (value.length() != comma + RFC_850_TAIL_LENGTH || !regionEquals(value, 3, ending)) {
+      return false;
+    }
+    if (value.charAt(comma) != ','
+        || value.charAt(comma + 1) != ' '
+        || value.charAt(comma + 4) != '-'
+        || value.charAt(comma + 8) != '-'
+        || value.charAt(comma + 11) != ' '
+        || value.charAt(comma + 20) != ' '
+        || packAt(value, comma + 21) != GMT) {
+      return false;
+    }
+    int day = IsoScanner.twoDigits(value, comma + 2);
+    int month = monthAt(value, comma + 5);
+    int twoDigitYear = IsoScanner.twoDigits(value, comma + 9);
+    if (twoDigitYear < 0) {
+      return false;
+    }
+    int year = currentYear - Math.floorMod(currentYear, 100) + twoDigitYear;
+    if (year > currentYear + 50) {
+      year -= 100;
+    }
+    return isTime(value, comma + 12) && isDate(year, month, day, dayOfWeek);
+  }
+
+  /**
+   * Checks whether the given value is an obsolete {@code asctime()} date, such as {@code Sun Nov 6
+   * 08:49:37 1994}.
+   *
+   * @param value the value to check
+   * @return {@code true} if the value is a valid {@code asctime()} date
+   */
+  static boolean isAsctime(CharSequence value) {
+    if (value.length() != ASCTIME_LENGTH
+        || value.charAt(3) != ' '
+        || value.charAt(7) != ' '
+        || value.charAt(10) != ' '
+        || value.charAt(19) != ' ') {
+      return false;
+    }
+    int dayOfWeek = dayOfWeekAt(value, 0);
+    int month = monthAt(value, 4);
+    int day = value.charAt(8) == ' ' ? digit(value.charAt(9)) : IsoScanner.twoDigits(value, 8);
+    int year = fourDigits(value, 20);
+    return isTime(value, 11) && isDate(year, month, day, dayOfWeek);
+  }
+
+  /** Checks a {@code HH:mm:ss} time, with hours up to {@code 23}. */
+  private static boolean isTime(CharSequence value, int from) {
+    int hour = IsoScanner.twoDigits(value, from);
+    int minute = IsoScanner.twoDigits(value, from + 3);
+    int second = IsoScanner.twoDigits(value, from + 6);
+    return value.charAt(from + 2) == ':'
+        && value.charAt(from + 5) == ':'
+        && hour >= 0
+        && hour <= 23
+        && minute >= 0
+        && minute <= 59
+        && second >= 0
+        && second <= 59;
+  }
+
+  /** Checks that the date exists and falls on the given day of week, any argument may be -1. */
+  private static boolean isDate(int year, int month, int day, int dayOfWeek) {
+    if (year < 0 || month < 0 || day < 1 || dayOfWeek < 0) {
+      return false;
+    }
+    if (day > IsoScanner.monthLength(year, month)) {
+      return false;
+    }
+    return IsoScanner.dayOfWeek(IsoScanner.epochDay(year, month, day)) == dayOfWeek;
+  }
+
+  /** Returns the ISO day of week named at the given position, or {@code -1}. */
+  private static int dayOfWeekAt(CharSequence value, int from) {
+    return indexOf(DAY_NAMES, packAt(value, from));
+  }
+
+  /** Returns the month named at the given position, from {@code 1}, or {@code -1}. */
+  private static int monthAt(CharSequence value, int from) {
+    return indexOf(MONTH_NAMES, packAt(value, from));
+  }
+
+  private static int indexOf(int[] names, int packed) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i] == packed) {
+        return i + 1;
+      }
+    }
+    return -1;
+  }
+
+  /** Parses four ASCII digits, or returns {@code -1} if any of them is not a digit. */
+  private static int fourDigits(CharSequence value, int from) {
+    int high = IsoScanner.twoDigits(value, from);
+    int low = IsoScanner.twoDigits(value, from + 2);
+    return high < 0 || low < 0 ? -1 : high * 100 + low;
+  }
+
+  private static int digit(char ch) {
+    return ch >= '0' && ch <= '9' ? ch - '0' : -1;
+  }
+
+  private static boolean regionEquals(CharSequence value, int from, String expected) {
+    for (int i = 0; i < expected.length(); i++) {
+      if (value.charAt(from + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Packs three characters of a value into an {@code int}.
+   *
+   * @return the packed characters, or {@code -1} if any of them is not ASCII
+   */
+  private static int packAt(CharSequence value, int from) {
+    char first = value.charAt(from);
+    char second = value.charAt(from + 1);
+    char third = value.charAt(from + 2);
+    if ((first | second | third) > 0x7F) {
+      return -1;
+    }
+    return first << 16 | second << 8 | third;
+  }
+
+  private static int pack(String name) {
+    return packAt(name, 0);
+  }
+}
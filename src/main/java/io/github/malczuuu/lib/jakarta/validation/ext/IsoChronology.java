@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Class-level annotation for validating that two ISO 8601 properties of a bean are in chronological
+ * order.
+ *
+ * <p>The {@link #start()} and {@link #end()} properties are read through their getters, or through
+ * their fields if there are no getters. Each of them may hold a date, such as {@code 2024-01-15},
+ * or a date-time, such as {@code 2024-01-15T10:30:00+01:00}, and the end must not be before the
+ * start. If both values have an offset, they are compared as instants, and if neither has one, they
+ * are compared as local date-times, with dates standing for the start of the day. A value with an
+ * offset cannot be ordered against one without, so such a pair is always reported as a violation.
+ * The time between the values can be limited with {@link #maxSpan()}.
+ *
+ * <p>The format of each property is not checked by this annotation. If any of the values is {@code
+ * null} or not a valid ISO 8601 date or date-time, the bean is considered valid, leaving the format
+ * to property-level constraints such as {@link IsoDate} or {@link IsoDateTime}. Violations are
+ * reported on the {@link #end()} property.
+ *
+ * <p>Supported property types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} beans are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;IsoChronology(start = "from", end = "to", maxSpan = "P30D")
+ * public class Booking {
+ *
+ *   &#064;IsoDate
+ *   private String from;
+ *
+ *   &#064;IsoDate
+ *   private String to;
+ *
+ *   // getters
+ * }
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({TYPE, ANNOTATION_TYPE})
+@Retention(RUNTIME)
+@Repeatable(IsoChronology.List.class)
+@Documented
+@Constraint(validatedBy = IsoChronologyValidator.class)
+public @interface IsoChronology {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must not be before {start} or exceed the maximum span";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the name of the property holding the start.
+   *
+   * @return the property name, such as {@code from}
+   * @since 1.3.0
+   */
+  String start();
+
+  /**
+   * Returns the name of the property holding the end, on which violations are reported.
+   *
+   * @return the property name, such as {@code to}
+   * @since 1.3.0
+   */
+  String end();
+
+  /**
+   * Returns the longest accepted time between the start and the end, inclusive.
+   *
+   * @return an ISO 8601 duration such as {@code P30D}, empty for no limit
+   * @since 1.3.0
+   */
+  String maxSpan() default "";
+
+  /**
+   * Defines several {@link IsoChronology} annotations on the same element.
+   *
+   * @see IsoChronology
+   * @since 1.3.0
+   */
+  @Target({TYPE, ANNOTATION_TYPE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link IsoChronology} annotations.
+     *
+     * @return array of {@link IsoChronology} annotations
+     * @since 1.3.0
+     */
+    IsoChronology[] value();
+  }
+}
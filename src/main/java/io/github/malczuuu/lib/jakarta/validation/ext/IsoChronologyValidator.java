@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link IsoChronology} annotation.
+ *
+ * <p>Checks if the end property of the annotated bean is not before its start property, and not
+ * further from it than the maximum span.
+ *
+ * <p>Accessors are resolved with deep reflection, so beans declared in a named module must open
+ * their package to this library.
+ *
+ * @since 1.3.0
+ */
+public class IsoChronologyValidator implements ConstraintValidator<IsoChronology, Object> {
+
+  private static final int ANY_DATE_FORMAT =
+      IsoScanner.EXTENDED_DATE
+          | IsoScanner.BASIC_DATE
+          | IsoScanner.WEEK_DATE
+          | IsoScanner.ORDINAL_DATE;
+
+  private static final long SECONDS_PER_DAY = 86_400L;
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private String start = "";
+  private String end = "";
+  private Duration maxSpan = IsoDurations.MAX_DURATION;
+
+  private final ClassValue<MethodHandle[]> accessors =
+      new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+          return new MethodHandle[] {accessorOf(type, start), accessorOf(type, end)};
+        }
+      };
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if a property name is empty, or the maximum span is not a
+   *     valid, non-negative ISO 8601 duration
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(IsoChronology constraintAnnotation) throws IllegalArgumentException {
+    start = requireProperty("start", constraintAnnotation.start());
+    end = requireProperty("end", constraintAnnotation.end());
+    maxSpan = IsoDurations.parseMaxSpan(constraintAnnotation.maxSpan());
+  }
+
+  /**
+   * Validates that the end property of the given bean is not before its start property.
+   *
+   * <p>Supported property types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the bean to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the bean is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if a property does not exist or its type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    MethodHandle[] handles = accessors.get(value.getClass());
+    CharSequence startValue = read(handles[0], value);
+    CharSequence endValue = read(handles[1], value);
+    if (startValue == null || endValue == null) {
+      return true;
+    }
+    IsoScanner.DateTimeFields startFields = new IsoScanner.DateTimeFields();
+    IsoScanner.DateTimeFields endFields = new IsoScanner.DateTimeFields();
+    if (!scan(startValue, startFields) || !scan(endValue, endFields)) {
+      return true;
+    }
+    if (startFields.hasOffset() == endFields.hasOffset()
+        && IsoDurations.isSpan(
+            startFields.epochSecond(),
+            startFields.nanoOfSecond,
+            endFields.epochSecond(),
+            endFields.nanoOfSecond,
+            maxSpan)) {
+      return true;
+    }
+    context.disableDefaultConstraintViolation();
+    context
+        .buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+        .addPropertyNode(end)
+        .addConstraintViolation();
+    return false;
+  }
+
+  /**
+   * Scans a date or a date-time, ignoring a trailing zone ID.
+   *
+   * <p>A date is scanned as the start of that day, without an offset.
+   *
+   * @param value the value to scan
+   * @param fields the fields to fill with the scanned date-time
+   * @return {@code true} if the value is a valid date or date-time
+   */
+  private static boolean scan(CharSequence value, IsoScanner.DateTimeFields fields) {
+    int end = IsoScanner.indexOfZoneId(value);
+    if (IsoScanner.indexOfTimeSeparator(value, 0, end) != end) {
+      return IsoScanner.scanDateTime(value, 0, end, false, IsoScanner.ANY_POLICY, fields);
+    }
+    long date = IsoScanner.scanDate(value, ANY_DATE_FORMAT);
+    fields.localSecond = date * SECONDS_PER_DAY;
+    return date != IsoScanner.INVALID_DATE;
+  }
+
+  /**
+   * Reads a property of a bean.
+   *
+   * @param accessor the accessor of the property
+   * @param bean the bean to read
+   * @return the value of the property
+   * @throws IllegalArgumentException if the type of the property is not supported
+   */
+  private static @Nullable CharSequence read(MethodHandle accessor, Object bean)
+      throws IllegalArgumentException {
+    Object value;
+    try {
+      value = (Object) accessor.invokeExact(bean);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to read property of " + bean.getClass().getName(), e);
+    }
+    if (value != null && !(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          IsoChronology.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    return (CharSequence) value;
+  }
+
+  /**
+   * Resolves the accessor of a property, preferring its getter over its field.
+   *
+   * @param type the bean class
+   * @param property the property name
+   * @return a handle of type {@code (Object)Object} returning the value of the property
+   * @throws IllegalArgumentException if the property does not exist or is not accessible
+   */
+  private static MethodHandle accessorOf(Class<?> type, String property)
+      throws IllegalArgumentException {
+    String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (Method method : current.getDeclaredMethods()) {
+        if (isGetter(method, suffix)) {
+          return unreflect(method, type, property);
+        }
+      }
+    }
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (field.getName().equals(property) && !Modifier.isStatic(field.getModifiers())) {
+          return unreflect(field, type, property);
+        }
+      }
+    }
+    throw new IllegalArgumentException("'" + property + "' is not a property of " + type.getName());
+  }
+
+  private static boolean isGetter(Method method, String suffix) {
+    if (method.getParameterCount() != 0
+        || Modifier.isStatic(method.getModifiers())
+        || method.isBridge()
+        || method.isSynthetic()) {
+      return false;
+    }
+    String name = method.getName();
+    return name.equals("get" + suffix) || name.equals("is" + suffix);
+  }
+
+  private static MethodHandle unreflect(AccessibleObject member, Class<?> type, String property)
+      throws IllegalArgumentException {
+    try {
+      member.setAccessible(true);
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle handle =
+          member instanceof Method
+              ? lookup.unreflect((Method) member)
+              : lookup.unreflectGetter((Field) member);
+      return handle.asType(ACCESSOR_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException(
+          "'" + property + "' property of " + type.getName() + " is not accessible", e);
+    }
+  }
+
+  private static String requireProperty(String attribute, String property)
+      throws IllegalArgumentException {
+    if (property.isEmpty()) {
+      throw new IllegalArgumentException(attribute + " must not be empty");
+    }
+    return property;
+  }
+}
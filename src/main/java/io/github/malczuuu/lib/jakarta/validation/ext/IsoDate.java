@@ -34,7 +34,13 @@
 /**
  * Annotation for validating that a {@code CharSequence} value is a valid ISO 8601 date string.
  *
- * <p>The value must be in the format {@code yyyy-MM-dd} with zero-padded month and day.
+ * <p>The value must be in the format {@code yyyy-MM-dd} with zero-padded month and day. Other ISO
+ * 8601 date formats, such as {@code 20240115}, {@code 2024-W03-1} or {@code 2024-015}, can be
+ * accepted instead or in addition with {@link #formats()}.
+ *
+ * <p>Accepted dates can be restricted to a range with {@link #min()} and {@link #max()}, and to the
+ * past or the future with {@link #past()} or {@link #future()}. The present date is taken from the
+ * {@link jakarta.validation.ClockProvider} of the validator factory.
  *
  * <p>Accepted values include:
  *
@@ -59,11 +65,19 @@
  *
  * <p>{@code null} elements are considered valid.
  *
- * <p>Example usage:
+ * <p>Example usages:
  *
  * <pre>
  * &#064;IsoDate
  * private String birthDate;
+ *
+ * // A date between 1900-01-01 and today
+ * &#064;IsoDate(min = "1900-01-01", past = true, orPresent = true)
+ * private String birthDate;
+ *
+ * // Also accept basic, week and ordinal dates
+ * &#064;IsoDate(formats = {Format.EXTENDED, Format.BASIC, Format.WEEK, Format.ORDINAL})
+ * private String deliveryDate;
  * </pre>
  *
  * @since 1.2.0
@@ -100,6 +114,93 @@
    */
   Class<? extends Payload>[] payload() default {};
 
+  /**
+   * Returns the date formats to accept.
+   *
+   * @return the accepted formats, at least one
+   * @since 1.3.0
+   */
+  Format[] formats() default {Format.EXTENDED};
+
+  /**
+   * Returns the earliest accepted date, inclusive.
+   *
+   * <p>The bound is always given in the {@link Format#EXTENDED} format.
+   *
+   * @return an ISO 8601 date such as {@code 1900-01-01}, empty for no lower bound
+   * @since 1.3.0
+   */
+  String min() default "";
+
+  /**
+   * Returns the latest accepted date, inclusive.
+   *
+   * <p>The bound is always given in the {@link Format#EXTENDED} format.
+   *
+   * @return an ISO 8601 date such as {@code 2099-12-31}, empty for no upper bound
+   * @since 1.3.0
+   */
+  String max() default "";
+
+  /**
+   * Returns whether the date must be in the past.
+   *
+   * <p>The present date is the current date in the time zone of the clock.
+   *
+   * @return {@code true} if the date must be before the present, see {@link #orPresent()}
+   * @since 1.3.0
+   */
+  boolean past() default false;
+
+  /**
+   * Returns whether the date must be in the future.
+   *
+   * @return {@code true} if the date must be after the present, see {@link #orPresent()}
+   * @since 1.3.0
+   */
+  boolean future() default false;
+
+  /**
+   * Returns whether {@link #past()} and {@link #future()} also accept the present.
+   *
+   * @return {@code true} if a date equal to the present is accepted
+   * @since 1.3.0
+   */
+  boolean orPresent() default false;
+
+  /**
+   * Returns for how long a reading of the clock is reused by {@link #past()} and {@link #future()}.
+   *
+   * <p>Reusing a reading avoids consulting the clock on every validation, at the cost of the
+   * present being up to that many milliseconds stale.
+   *
+   * @return the number of milliseconds, {@code 0} to read the clock on every validation
+   * @since 1.3.0
+   */
+  long clockCacheMillis() default 0;
+
+  /**
+   * ISO 8601 date formats that can be used with {@link IsoDate#formats()}.
+   *
+   * <p>Years have 4 digits, or more with a sign, in all formats except {@link #BASIC}.
+   *
+   * @since 1.3.0
+   */
+  enum Format {
+
+    /** Calendar date with separators, e.g. {@code 2024-01-15}. */
+    EXTENDED,
+
+    /** Calendar date without separators and with a 4-digit year, e.g. {@code 20240115}. */
+    BASIC,
+
+    /** Week-based year, week and day of week from Monday, e.g. {@code 2024-W03-1}. */
+    WEEK,
+
+    /** Year and day of year, e.g. {@code 2024-015}. */
+    ORDINAL
+  }
+
   /**
    * Defines several {@link IsoDate} annotations on the same element.
    *
@@ -37,6 +37,25 @@
  * <p>The value must contain at least a date and a time part separated by {@code T}. A timezone
  * offset is accepted but optional unless {@link #offsetRequired} is set to {@code true}.
  *
+ * <p>Accepted date-times can be restricted to a range with {@link #min()} and {@link #max()}, and
+ * to the past or the future with {@link #past()} or {@link #future()}. Date-times with an offset
+ * are compared as instants, while date-times without an offset are compared as local date-times, to
+ * the present in the time zone of the {@link jakarta.validation.ClockProvider} of the validator
+ * factory. A date-time with an offset and a bound without one, or the other way around, are not
+ * comparable, so such a date-time is rejected, as by {@link IsoInterval} and {@link IsoChronology}.
+ *
+ * <p>A bracketed time zone region ID following the date-time, such as {@code
+ * 2024-01-15T10:30:00+01:00[Europe/Warsaw]}, can be accepted or required with {@link #zoneId()}.
+ * The region ID must be known to the JDK, but the offset is not checked against the rules of the
+ * zone.
+ *
+ * <p>The precision and the offset of accepted date-times can be restricted with {@link
+ * #secondsRequired()}, {@link #maxFractionDigits()} and {@link #offsetPolicy()}. These are checked
+ * while the value is scanned.
+ *
+ * <p>With {@link #profile()} set to {@link Profile#RFC3339}, date-times must also follow the RFC
+ * 3339 profile of ISO 8601, checked during the same scan.
+ *
  * <p>Accepted values include:
  *
  * <ul>
@@ -57,8 +76,17 @@
  *
  * <ul>
  *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ *   <li>{@code Long}, {@code Integer} and {@code BigInteger} - epoch timestamps in the {@link
+ *       #epochUnit()}, which must fall within the years {@code -999999999} and {@code 999999999}
  * </ul>
  *
+ * <p>Epoch timestamps are treated as date-times with the {@code Z} offset by {@link #min()}, {@link
+ * #max()}, {@link #past()} and {@link #future()}, so bounds for them must have an offset. The other
+ * attributes only apply to strings. Without these attributes, only timestamps that {@link
+ * java.time.LocalDateTime} cannot represent are rejected, so implausible values such as {@code
+ * Long.MAX_VALUE / 1000} milliseconds pass. Use {@link #min()} and {@link #max()} to limit
+ * timestamps to a plausible range.
+ *
  * <p>{@code null} elements are considered valid.
  *
  * <p>Example usages:
@@ -71,6 +99,31 @@
  * // Require a timezone offset, e.g. "2024-01-15T10:30:00Z"
  * &#064;IsoDateTime(offsetRequired = true)
  * private String updatedAt;
+ *
+ * // Not in the future, reading the clock at most once per second
+ * &#064;IsoDateTime(past = true, orPresent = true, clockCacheMillis = 1000)
+ * private String occurredAt;
+ *
+ * // UTC with seconds and at most millisecond precision, e.g. "2024-01-15T10:30:00.123Z"
+ * &#064;IsoDateTime(
+ *     offsetRequired = true,
+ *     secondsRequired = true,
+ *     maxFractionDigits = 3,
+ *     offsetPolicy = OffsetPolicy.UTC_ONLY)
+ * private String recordedAt;
+ *
+ * // Require a zone ID, e.g. "2024-01-15T10:30:00+01:00[Europe/Warsaw]"
+ * &#064;IsoDateTime(offsetRequired = true, zoneId = ZoneIdMode.REQUIRED)
+ * private String scheduledAt;
+ *
+ * // RFC 3339, e.g. "2024-01-15T10:30:00.5+01:00"
+ * &#064;IsoDateTime(profile = Profile.RFC3339)
+ * private String emittedAt;
+ *
+ * // Epoch seconds, from 2000 and not in the future
+ * &#064;IsoDateTime(
+ *     epochUnit = EpochUnit.SECONDS, min = "2000-01-01T00:00Z", past = true, orPresent = true)
+ * private long receivedAt;
  * </pre>
  *
  * @since 1.2.0
@@ -116,6 +169,177 @@
    */
   boolean offsetRequired() default false;
 
+  /**
+   * Returns whether the seconds must be present.
+   *
+   * @return {@code true} if values such as {@code 2024-01-15T10:30} are rejected for lacking
+   *     seconds
+   * @since 1.3.0
+   */
+  boolean secondsRequired() default false;
+
+  /**
+   * Returns the largest accepted number of fraction digits.
+   *
+   * @return a number from {@code 0}, rejecting any fraction of second including a lone decimal
+   *     point, to {@code 9}, accepting nanosecond precision
+   * @since 1.3.0
+   */
+  int maxFractionDigits() default 9;
+
+  /**
+   * Returns the timezone offsets to accept, if the value has one.
+   *
+   * @return the offset policy, {@link OffsetPolicy#ANY} by default
+   * @since 1.3.0
+   */
+  OffsetPolicy offsetPolicy() default OffsetPolicy.ANY;
+
+  /**
+   * Returns whether a bracketed zone ID may or must follow the date-time.
+   *
+   * @return the zone ID mode, {@link ZoneIdMode#FORBIDDEN} by default
+   * @since 1.3.0
+   */
+  ZoneIdMode zoneId() default ZoneIdMode.FORBIDDEN;
+
+  /**
+   * Returns the profile of ISO 8601 that date-times must follow.
+   *
+   * @return the profile, {@link Profile#ISO8601} by default
+   * @since 1.3.0
+   */
+  Profile profile() default Profile.ISO8601;
+
+  /**
+   * Returns the unit of epoch timestamps given as numbers.
+   *
+   * <p>The unit is not inferred from the magnitude of a timestamp, and timestamps are only required
+   * to fall within the years {@code -999999999} and {@code 999999999}, so a timestamp in the wrong
+   * unit is usually still accepted unless {@link #min()} or {@link #max()} is set.
+   *
+   * @return the epoch unit, {@link EpochUnit#MILLISECONDS} by default
+   * @since 1.3.0
+   */
+  EpochUnit epochUnit() default EpochUnit.MILLISECONDS;
+
+  /**
+   * Returns the earliest accepted date-time, inclusive.
+   *
+   * <p>If the bound has an offset, only date-times with an offset are accepted, and if it has none,
+   * only date-times without one.
+   *
+   * @return an ISO 8601 date-time such as {@code 2000-01-01T00:00Z}, empty for no lower bound
+   * @since 1.3.0
+   */
+  String min() default "";
+
+  /**
+   * Returns the latest accepted date-time, inclusive.
+   *
+   * <p>If the bound has an offset, only date-times with an offset are accepted, and if it has none,
+   * only date-times without one.
+   *
+   * @return an ISO 8601 date-time such as {@code 2099-12-31T23:59:59}, empty for no upper bound
+   * @since 1.3.0
+   */
+  String max() default "";
+
+  /**
+   * Returns whether the date-time must be in the past.
+   *
+   * <p>The present is the current instant for date-times with an offset, and the current local
+   * date-time in the time zone of the clock for date-times without one.
+   *
+   * @return {@code true} if the date-time must be before the present, see {@link #orPresent()}
+   * @since 1.3.0
+   */
+  boolean past() default false;
+
+  /**
+   * Returns whether the date-time must be in the future.
+   *
+   * @return {@code true} if the date-time must be after the present, see {@link #orPresent()}
+   * @since 1.3.0
+   */
+  boolean future() default false;
+
+  /**
+   * Returns whether {@link #past()} and {@link #future()} also accept the present.
+   *
+   * @return {@code true} if a date-time equal to the present is accepted
+   * @since 1.3.0
+   */
+  boolean orPresent() default false;
+
+  /**
+   * Returns for how long a reading of the clock is reused by {@link #past()} and {@link #future()}.
+   *
+   * <p>Reusing a reading avoids consulting the clock on every validation, at the cost of the
+   * present being up to that many milliseconds stale.
+   *
+   * @return the number of milliseconds, {@code 0} to read the clock on every validation
+   * @since 1.3.0
+   */
+  long clockCacheMillis() default 0;
+
+  /**
+   * Modes of accepting a bracketed zone ID that can be used with {@link IsoDateTime#zoneId()}.
+   *
+   * @since 1.3.0
+   */
+  enum ZoneIdMode {
+
+    /** A zone ID is rejected, e.g. {@code 2024-01-15T10:30:00+01:00[Europe/Warsaw]}. */
+    FORBIDDEN,
+
+    /** A zone ID is accepted but not required. */
+    OPTIONAL,
+
+    /** A zone ID is required, e.g. {@code 2024-01-15T10:30:00+01:00[Europe/Warsaw]}. */
+    REQUIRED
+  }
+
+  /**
+   * Profiles of ISO 8601 that can be used with {@link IsoDateTime#profile()}.
+   *
+   * @since 1.3.0
+   */
+  enum Profile {
+
+    /** Date-times as accepted by {@code java.time}, restricted only by the other attributes. */
+    ISO8601,
+
+    /**
+     * Date-times following RFC 3339, e.g. {@code 2024-01-15T10:30:00Z}.
+     *
+     * <p>The offset and the seconds are required, the year has exactly 4 digits without a sign, and
+     * the offset is either {@code Z} or has the {@code ±HH:MM} form. As in {@code java.time}, leap
+     * seconds are rejected, and fractions have at least 1 and at most 9 digits.
+     */
+    RFC3339
+  }
+
+  /**
+   * Units of epoch timestamps that can be used with {@link IsoDateTime#epochUnit()}.
+   *
+   * @since 1.3.0
+   */
+  enum EpochUnit {
+
+    /** Seconds since {@code 1970-01-01T00:00:00Z}, e.g. {@code 1705314600}. */
+    SECONDS,
+
+    /** Milliseconds since {@code 1970-01-01T00:00:00Z}, e.g. {@code 1705314600000}. */
+    MILLISECONDS,
+
+    /** Microseconds since {@code 1970-01-01T00:00:00Z}, e.g. {@code 1705314600000000}. */
+    MICROSECONDS,
+
+    /** Nanoseconds since {@code 1970-01-01T00:00:00Z}, e.g. {@code 1705314600000000000}. */
+    NANOSECONDS
+  }
+
   /**
    * Defines several {@link IsoDateTime} annotations on the same element.
    *
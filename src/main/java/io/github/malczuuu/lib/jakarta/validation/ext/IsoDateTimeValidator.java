@@ -18,9 +18,8 @@
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
+import java.math.BigInteger;
+import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -32,28 +31,49 @@
  */
 public class IsoDateTimeValidator implements ConstraintValidator<IsoDateTime, Object> {
 
-  private static final DateTimeFormatter DATETIME_WITH_OPTIONAL_OFFSET =
-      new DateTimeFormatterBuilder()
-          .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-          .optionalStart()
-          .appendOffsetId()
-          .optionalEnd()
-          .toFormatter();
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long MIN_EPOCH_SECOND = IsoScanner.MIN_EPOCH_DAY * 86_400L;
+  private static final long MAX_EPOCH_SECOND = IsoScanner.MAX_EPOCH_DAY * 86_400L + 86_399L;
 
-  private DateTimeFormatter formatter = DATETIME_WITH_OPTIONAL_OFFSET;
+  private boolean offsetRequired;
+  private int policy;
+  private IsoDateTime.ZoneIdMode zoneId = IsoDateTime.ZoneIdMode.FORBIDDEN;
+  private @Nullable Bound min;
+  private @Nullable Bound max;
+  private @Nullable PresentClock present;
+  private long unitsPerSecond = 1_000L;
 
   /**
-   * Initializes the validator by selecting the appropriate {@link DateTimeFormatter} based on
-   * whether an offset is required.
+   * Initializes the validator with the constraint annotation attributes.
    *
    * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if a bound is not a valid ISO 8601 date-time, if both {@code
+   *     past} and {@code future} are set, if {@code clockCacheMillis} is negative, or if {@code
+   *     maxFractionDigits} is not between {@code 0} and {@code 9}
    * @since 1.2.0
    */
   @Override
-  public void initialize(IsoDateTime constraintAnnotation) {
-    if (constraintAnnotation.offsetRequired()) {
-      formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+  public void initialize(IsoDateTime constraintAnnotation) throws IllegalArgumentException {
+    boolean rfc3339 = constraintAnnotation.profile() == IsoDateTime.Profile.RFC3339;
+    offsetRequired = constraintAnnotation.offsetRequired() || rfc3339;
+    zoneId = constraintAnnotation.zoneId();
+    policy =
+        IsoScanner.policy(
+            constraintAnnotation.secondsRequired() || rfc3339,
+            constraintAnnotation.maxFractionDigits(),
+            constraintAnnotation.offsetPolicy());
+    if (rfc3339) {
+      policy |= IsoScanner.RFC_3339;
     }
+    unitsPerSecond = unitsPerSecondOf(constraintAnnotation.epochUnit());
+    min = Bound.parse(constraintAnnotation.min());
+    max = Bound.parse(constraintAnnotation.max());
+    present =
+        PresentClock.of(
+            constraintAnnotation.past(),
+            constraintAnnotation.future(),
+            constraintAnnotation.orPresent(),
+            constraintAnnotation.clockCacheMillis());
   }
 
   /**
@@ -63,6 +83,7 @@ public void initialize(IsoDateTime constraintAnnotation) {
    *
    * <ul>
    *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   *   <li>{@code Long}, {@code Integer} and {@code BigInteger} - epoch timestamps
    * </ul>
    *
    * @param value the value to validate
@@ -77,6 +98,12 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
     if (value == null) {
       return true;
     }
+    if (value instanceof Long || value instanceof Integer) {
+      return isValidEpoch(((Number) value).longValue(), context);
+    }
+    if (value instanceof BigInteger) {
+      return isValidEpoch((BigInteger) value, context);
+    }
     if (!(value instanceof CharSequence)) {
       throw new IllegalArgumentException(
           IsoDateTime.class.getSimpleName()
@@ -84,11 +111,207 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
               + value.getClass().getName()
               + " type");
     }
-    try {
-      formatter.parse((CharSequence) value);
-      return true;
-    } catch (DateTimeParseException e) {
+    CharSequence dateTime = (CharSequence) value;
+    int end = IsoScanner.indexOfZoneId(dateTime);
+    if (min == null && max == null && present == null) {
+      return IsoScanner.scanDateTime(dateTime, 0, end, offsetRequired, policy)
+              != IsoScanner.INVALID_DATE_TIME
+          && isValidZoneId(dateTime, end);
+    }
+    IsoScanner.DateTimeFields fields = new IsoScanner.DateTimeFields();
+    if (!IsoScanner.scanDateTime(dateTime, 0, end, offsetRequired, policy, fields)
+        || !isValidZoneId(dateTime, end)) {
+      return false;
+    }
+    boolean hasOffset = fields.hasOffset();
+    long seconds = fields.epochSecond();
+    int nanos = fields.nanoOfSecond;
+    if (min != null && !min.isAtOrBefore(hasOffset, seconds, nanos)) {
+      return false;
+    }
+    if (max != null && !max.isAtOrAfter(hasOffset, seconds, nanos)) {
+      return false;
+    }
+    return present == null || present.accepts(compareToPresent(hasOffset, seconds, nanos, context));
+  }
+
+  /**
+   * Validates an epoch timestamp that fits in a {@code long}.
+   *
+   * @param timestamp the number of epoch units since {@code 1970-01-01T00:00:00Z}
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the timestamp is valid, {@code false} otherwise
+   */
+  private boolean isValidEpoch(long timestamp, ConstraintValidatorContext context) {
+    long epochSecond = Math.floorDiv(timestamp, unitsPerSecond);
+    long nanos = Math.floorMod(timestamp, unitsPerSecond) * (NANOS_PER_SECOND / unitsPerSecond);
+    return isValidInstant(epochSecond, (int) nanos, context);
+  }
+
+  /**
+   * Validates an epoch timestamp of any size.
+   *
+   * @param timestamp the number of epoch units since {@code 1970-01-01T00:00:00Z}
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the timestamp is valid, {@code false} otherwise
+   */
+  private boolean isValidEpoch(BigInteger timestamp, ConstraintValidatorContext context) {
+    if (timestamp.bitLength() < Long.SIZE) {
+      return isValidEpoch(timestamp.longValue(), context);
+    }
+    BigInteger[] parts = timestamp.divideAndRemainder(BigInteger.valueOf(unitsPerSecond));
+    BigInteger epochSecond = parts[0];
+    long remainder = parts[1].longValue();
+    if (remainder < 0) {
+      epochSecond = epochSecond.subtract(BigInteger.ONE);
+      remainder += unitsPerSecond;
+    }
+    if (epochSecond.bitLength() >= Long.SIZE) {
+      return false;
+    }
+    long nanos = remainder * (NANOS_PER_SECOND / unitsPerSecond);
+    return isValidInstant(epochSecond.longValue(), (int) nanos, context);
+  }
+
+  /**
+   * Validates an instant against the range of years of {@link java.time.LocalDateTime}, the bounds
+   * and the present.
+   *
+   * @param epochSecond the seconds since the epoch
+   * @param nanos the nanosecond of second
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the instant is valid, {@code false} otherwise
+   */
+  private boolean isValidInstant(long epochSecond, int nanos, ConstraintValidatorContext context) {
+    if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+      return false;
+    }
+    if (min != null && !min.isAtOrBefore(true, epochSecond, nanos)) {
       return false;
     }
+    if (max != null && !max.isAtOrAfter(true, epochSecond, nanos)) {
+      return false;
+    }
+    if (present == null) {
+      return true;
+    }
+    PresentClock.Reading now = present.read(context);
+    int comparison = Long.compare(epochSecond, now.epochSecond());
+    return present.accepts(comparison != 0 ? comparison : Integer.compare(nanos, now.nano()));
+  }
+
+  /**
+   * Checks the bracketed zone ID following a valid date-time against the configured mode.
+   *
+   * @param dateTime the value
+   * @param end the end of the date-time, where the zone ID starts if there is one
+   * @return {@code true} if the zone ID is present as required and is a known region ID
+   */
+  private boolean isValidZoneId(CharSequence dateTime, int end) {
+    if (end == dateTime.length()) {
+      return zoneId != IsoDateTime.ZoneIdMode.REQUIRED;
+    }
+    return zoneId != IsoDateTime.ZoneIdMode.FORBIDDEN
+        && ZoneIds.isRegionId(dateTime, end + 1, dateTime.length() - 1, false);
+  }
+
+  /**
+   * Compares a valid date-time to the present, as an instant if it has an offset, or as a local
+   * date-time in the time zone of the clock otherwise.
+   *
+   * @param hasOffset whether the date-time has an offset
+   * @param seconds the epoch second of the date-time, see {@link IsoScanner.DateTimeFields}
+   * @param nanos the nanosecond of second
+   * @param context the context providing the clock
+   * @return a negative number, zero or a positive number if the date-time is before, at or after
+   *     the present
+   */
+  private int compareToPresent(
+      boolean hasOffset, long seconds, int nanos, ConstraintValidatorContext context) {
+    PresentClock.Reading now = Objects.requireNonNull(present).read(context);
+    int comparison = Long.compare(seconds, hasOffset ? now.epochSecond() : now.localEpochSecond());
+    return comparison != 0 ? comparison : Integer.compare(nanos, now.nano());
+  }
+
+  private static long unitsPerSecondOf(IsoDateTime.EpochUnit epochUnit) {
+    switch (epochUnit) {
+      case SECONDS:
+        return 1L;
+      case MICROSECONDS:
+        return 1_000_000L;
+      case NANOSECONDS:
+        return NANOS_PER_SECOND;
+      default:
+        return 1_000L;
+    }
+  }
+
+  /**
+   * A bound of the accepted range, resolved from an ISO 8601 date-time.
+   *
+   * <p>A bound with an offset only accepts date-times with an offset, including epoch timestamps,
+   * and a bound without an offset only accepts date-times without one.
+   */
+  private static final class Bound {
+
+    private final boolean hasOffset;
+    private final long seconds;
+    private final int nanos;
+
+    private Bound(boolean hasOffset, long seconds, int nanos) {
+      this.hasOffset = hasOffset;
+      this.seconds = seconds;
+      this.nanos = nanos;
+    }
+
+    /**
+     * Resolves a bound of the accepted range.
+     *
+     * @param bound the ISO 8601 date-time, or an empty string
+     * @return the resolved bound, or {@code null} if the bound is empty
+     * @throws IllegalArgumentException if the bound is not a valid ISO 8601 date-time
+     */
+    private static @Nullable Bound parse(String bound) throws IllegalArgumentException {
+      if (bound.isEmpty()) {
+        return null;
+      }
+      IsoScanner.DateTimeFields fields = new IsoScanner.DateTimeFields();
+      if (!IsoScanner.scanDateTime(
+          bound, 0, bound.length(), false, IsoScanner.ANY_POLICY, fields)) {
+        throw new IllegalArgumentException("'" + bound + "' is not a valid ISO 8601 date-time");
+      }
+      return new Bound(fields.hasOffset(), fields.epochSecond(), fields.nanoOfSecond);
+    }
+
+    /**
+     * Checks that this bound is at or before a date-time of the same kind.
+     *
+     * @param hasOffset whether the date-time has an offset
+     * @param seconds the epoch second of the date-time, see {@link IsoScanner.DateTimeFields}
+     * @param nanos the nanosecond of second
+     * @return {@code true} if both have an offset or neither has, and this bound is not after the
+     *     date-time
+     */
+    private boolean isAtOrBefore(boolean hasOffset, long seconds, int nanos) {
+      return this.hasOffset == hasOffset && compareTo(seconds, nanos) <= 0;
+    }
+
+    /**
+     * Checks that this bound is at or after a date-time of the same kind.
+     *
+     * @param hasOffset whether the date-time has an offset
+     * @param seconds the epoch second of the date-time, see {@link IsoScanner.DateTimeFields}
+     * @param nanos the nanosecond of second
+     * @return {@code true} if both have an offset or neither has, and this bound is not before the
+     *     date-time
+     */
+    private boolean isAtOrAfter(boolean hasOffset, long seconds, int nanos) {
+      return this.hasOffset == hasOffset && compareTo(seconds, nanos) >= 0;
+    }
+
+    private int compareTo(long seconds, int nanos) {
+      int comparison = Long.compare(this.seconds, seconds);
+      return comparison != 0 ? comparison : Integer.compare(this.nanos, nanos);
+    }
   }
 }
@@ -18,8 +18,6 @@
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -31,6 +29,33 @@
  */
 public class IsoDateValidator implements ConstraintValidator<IsoDate, Object> {
 
+  private int formats = IsoScanner.EXTENDED_DATE;
+  private long min = Long.MIN_VALUE;
+  private long max = Long.MAX_VALUE;
+  private @Nullable PresentClock present;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if no format is given, if a bound is not a valid ISO 8601
+   *     date, if both {@code past} and {@code future} are set, or if {@code clockCacheMillis} is
+   *     negative
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(IsoDate constraintAnnotation) throws IllegalArgumentException {
+    formats = formatsOf(constraintAnnotation.formats());
+    min = parseBound(constraintAnnotation.min(), Long.MIN_VALUE);
+    max = parseBound(constraintAnnotation.max(), Long.MAX_VALUE);
+    present =
+        PresentClock.of(
+            constraintAnnotation.past(),
+            constraintAnnotation.future(),
+            constraintAnnotation.orPresent(),
+            constraintAnnotation.clockCacheMillis());
+  }
+
   /**
    * Validates that the given value is a valid ISO 8601 date string.
    *
@@ -59,11 +84,62 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
               + value.getClass().getName()
               + " type");
     }
-    try {
-      DateTimeFormatter.ISO_LOCAL_DATE.parse((CharSequence) value);
-      return true;
-    } catch (DateTimeParseException e) {
+    CharSequence date = (CharSequence) value;
+    long epochDay = IsoScanner.scanDate(date, formats);
+    if (epochDay == IsoScanner.INVALID_DATE || epochDay < min || epochDay > max) {
       return false;
     }
+    return present == null
+        || present.accepts(Long.compare(epochDay, present.read(context).localEpochDay()));
+  }
+
+  /**
+   * Combines the given formats into the flags of {@link IsoScanner#scanDate(CharSequence, int)}.
+   *
+   * @param formats the accepted formats
+   * @return the combined format flags
+   * @throws IllegalArgumentException if no format is given
+   */
+  private static int formatsOf(IsoDate.Format[] formats) throws IllegalArgumentException {
+    if (formats.length == 0) {
+      throw new IllegalArgumentException("formats must not be empty");
+    }
+    int flags = 0;
+    for (IsoDate.Format format : formats) {
+      switch (format) {
+        case EXTENDED:
+          flags |= IsoScanner.EXTENDED_DATE;
+          break;
+        case BASIC:
+          flags |= IsoScanner.BASIC_DATE;
+          break;
+        case WEEK:
+          flags |= IsoScanner.WEEK_DATE;
+          break;
+        case ORDINAL:
+          flags |= IsoScanner.ORDINAL_DATE;
+          break;
+      }
+    }
+    return flags;
+  }
+
+  /**
+   * Resolves a bound of the accepted range.
+   *
+   * @param bound the ISO 8601 date, or an empty string
+   * @param unbounded the value to use if the bound is empty
+   * @return the epoch day of the bound
+   * @throws IllegalArgumentException if the bound is not a valid ISO 8601 date
+   */
+  private static long parseBound(String bound, long unbounded) throws IllegalArgumentException {
+    if (bound.isEmpty()) {
+      return unbounded;
+    }
+    long epochDay = IsoScanner.scanDate(bound, 0, bound.length(), false);
+    if (epochDay == IsoScanner.INVALID_DATE) {
+      throw new IllegalArgumentException("'" + bound + "' is not a valid ISO 8601 date");
+    }
+    return epochDay;
   }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a valid ISO 8601 duration string.
+ *
+ * <p>The value must be in the format {@code PnDTnHnMn.nS}, as accepted by {@link
+ * java.time.Duration#parse(CharSequence)}. Letters are case-insensitive, every number may have a
+ * sign, and the whole duration may be negated with a leading {@code -}.
+ *
+ * <p>Accepted durations can be restricted to a range with {@link #min()} and {@link #max()}. The
+ * value is compared to the bounds by its seconds and nanoseconds, without creating a {@link
+ * java.time.Duration}.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code PT15M} - 15 minutes
+ *   <li>{@code P1DT2H} - 1 day and 2 hours
+ *   <li>{@code PT0.5S} - half a second
+ *   <li>{@code -PT10S} - negative duration
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code P3M} - months are not supported by durations, see {@link IsoPeriod}
+ *   <li>{@code PT} - no duration components
+ *   <li>{@code P2DT} or {@code P2Dt} - time designator without time components
+ *   <li>{@code 15M} - missing {@code P} designator
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;IsoDuration
+ * private String timeout;
+ *
+ * // Between one second and one hour
+ * &#064;IsoDuration(min = "PT1S", max = "PT1H")
+ * private String pollInterval;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(IsoDuration.List.class)
+@Documented
+@Constraint(validatedBy = IsoDurationValidator.class)
+public @interface IsoDuration {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid ISO 8601 duration";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the shortest accepted duration, inclusive.
+   *
+   * @return an ISO 8601 duration such as {@code PT0S}, empty for no lower bound
+   * @since 1.3.0
+   */
+  String min() default "";
+
+  /**
+   * Returns the longest accepted duration, inclusive.
+   *
+   * @return an ISO 8601 duration such as {@code P1D}, empty for no upper bound
+   * @since 1.3.0
+   */
+  String max() default "";
+
+  /**
+   * Defines several {@link IsoDuration} annotations on the same element.
+   *
+   * @see IsoDuration
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link IsoDuration} annotations.
+     *
+     * @return array of {@link IsoDuration} annotations
+     * @since 1.3.0
+     */
+    IsoDuration[] value();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link IsoDuration} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a valid ISO 8601 duration string within the
+ * {@code min} and {@code max} bounds.
+ *
+ * @since 1.3.0
+ */
+public class IsoDurationValidator implements ConstraintValidator<IsoDuration, Object> {
+
+  private Duration min = IsoDurations.MIN_DURATION;
+  private Duration max = IsoDurations.MAX_DURATION;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if a bound is not a valid ISO 8601 duration
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(IsoDuration constraintAnnotation) throws IllegalArgumentException {
+    min = parseBound(constraintAnnotation.min(), IsoDurations.MIN_DURATION);
+    max = parseBound(constraintAnnotation.max(), IsoDurations.MAX_DURATION);
+  }
+
+  /**
+   * Validates that the given value is a valid ISO 8601 duration string.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          IsoDuration.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    return IsoDurations.isDuration(
+        (CharSequence) value, 0, ((CharSequence) value).length(), min, max);
+  }
+
+  /**
+   * Resolves a bound of the accepted range.
+   *
+   * @param bound the ISO 8601 duration, or an empty string
+   * @param unbounded the value to use if the bound is empty
+   * @return the resolved bound
+   * @throws IllegalArgumentException if the bound is not a valid ISO 8601 duration
+   */
+  private static Duration parseBound(String bound, Duration unbounded)
+      throws IllegalArgumentException {
+    if (bound.isEmpty()) {
+      return unbounded;
+    }
+    if (!IsoDurations.isDuration(
+        bound, 0, bound.length(), IsoDurations.MIN_DURATION, IsoDurations.MAX_DURATION)) {
+      throw new IllegalArgumentException("'" + bound + "' is not a valid ISO 8601 duration");
+    }
+    return Duration.parse(bound);
+  }
+}
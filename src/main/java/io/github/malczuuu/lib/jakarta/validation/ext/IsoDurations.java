@@ -0,0 +1,355 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.time.Duration;
+
+/**
+ * Single-pass scanner for ISO 8601 durations, as accepted by {@link Duration#parse(CharSequence)}
+ * and {@link java.time.Period#parse(CharSequence)}.
+ *
+ * <p>Values are scanned in place and compared to the bounds as primitives, so neither {@link
+ * Duration} nor {@link java.time.Period} objects are created and no exceptions are thrown for
+ * invalid values. Arithmetic overflow is detected in the same places where the JDK would throw.
+ *
+ * <p>The accepted values differ from those of {@link Duration#parse(CharSequence)} in one case: the
+ * JDK also accepts a lowercase {@code t} with no time components after the days, such as {@code
+ * P2Dt}, while rejecting the uppercase {@code P2DT}. The scanner rejects both.
+ */
+final class IsoDurations {
+
+  /** Shortest duration, accepted as a lower bound by {@link #isDuration} for no bound. */
+  static final Duration MIN_DURATION = Duration.ofSeconds(Long.MIN_VALUE);
+
+  /** Longest duration, accepted as an upper bound by {@link #isDuration} for no bound. */
+  static final Duration MAX_DURATION = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+
+  /** Returned by {@link #scanPeriod} for invalid periods. */
+  static final long INVALID_PERIOD = Long.MIN_VALUE;
+
+  private static final long SECONDS_PER_DAY = 86_400L;
+  private static final long SECONDS_PER_HOUR = 3_600L;
+  private static final long SECONDS_PER_MINUTE = 60L;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** Days in 400 Gregorian years, i.e. in 4800 months. */
+  private static final long DAYS_PER_4800_MONTHS = 146_097L;
+
+  private static final int[] POWERS_OF_TEN = {
+    1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+  };
+
+  private IsoDurations() {}
+
+  /**
+   * Checks whether the given value is a {@code PnDTnHnMn.nS} duration within the given bounds.
+   *
+   * @param value the value to check
+   * @param from the start of the duration, inclusive
+   * @param to the end of the duration, exclusive
+   * @param min the smallest accepted duration, inclusive
+   * @param max the largest accepted duration, inclusive
+   * @return {@code true} if the value is a valid duration within the bounds
+   */
+  static boolean isDuration(CharSequence value, int from, int to, Duration min, Duration max) {
+    int length = to;
+    int i = from;
+    boolean negate = false;
+    if (from < to && isSign(value.charAt(from))) {
+      negate = value.charAt(from) == '-';
+      i++;
+    }
+    if (i == length || !isLetter(value.charAt(i), 'P')) {
+      return false;
+    }
+    i++;
+    long days = 0;
+    long hours = 0;
+    long minutes = 0;
+    long seconds = 0;
+    long nanos = 0;
+    int lastUnit = -1;
+    boolean time = false;
+    while (i < length) {
+      if (!time && isLetter(value.charAt(i), 'T')) {
+        time = true;
+        if (++i == length) {
+          return false;
+        }
+        continue;
+      }
+      boolean minus = value.charAt(i) == '-';
+      if (isSign(value.charAt(i))) {
+        i++;
+      }
+      int digitsStart = i;
+      long number = 0;
+      long limit = minus ? Long.MIN_VALUE : -Long.MAX_VALUE;
+      for (; i < length && isDigit(value.charAt(i)); i++) {
+        int digit = value.charAt(i) - '0';
+        if (number < limit / 10 || number * 10 < limit + digit) {
+          return false;
+        }
+        number = number * 10 - digit;
+      }
+      if (i == digitsStart || i == length) {
+        return false;
+      }
+      number = minus ? number : -number;
+      char designator = value.charAt(i);
+      int unit;
+      if (!time) {
+        unit = isLetter(designator, 'D') ? 0 : -1;
+      } else if (isLetter(designator, 'H')) {
+        unit = 1;
+      } else if (isLetter(designator, 'M')) {
+        unit = 2;
+      } else {
+        unit = isLetter(designator, 'S') || designator == '.' || designator == ',' ? 3 : -1;
+      }
+      if (unit <= lastUnit) {
+        return false;
+      }
+      lastUnit = unit;
+      if (designator == '.' || designator == ',') {
+        int fractionStart = ++i;
+        int fraction = 0;
+        for (; i < length && i - fractionStart < 9 && isDigit(value.charAt(i)); i++) {
+          fraction = fraction * 10 + value.charAt(i) - '0';
+        }
+        if (i == length || !isLetter(value.charAt(i), 'S')) {
+          return false;
+        }
+        fraction *= POWERS_OF_TEN[9 - (i - fractionStart)];
+        nanos = minus ? -fraction : fraction;
+      }
+      i++;
+      switch (unit) {
+        case 0:
+          days = number;
+          break;
+        case 1:
+          hours = number;
+          break;
+        case 2:
+          minutes = number;
+          break;
+        default:
+          seconds = number;
+          break;
+      }
+    }
+    if (lastUnit < 0
+        || !fitsMultiplied(days, SECONDS_PER_DAY)
+        || !fitsMultiplied(hours, SECONDS_PER_HOUR)
+        || !fitsMultiplied(minutes, SECONDS_PER_MINUTE)) {
+      return false;
+    }
+    long total = minutes * SECONDS_PER_MINUTE + seconds;
+    if (overflows(minutes * SECONDS_PER_MINUTE, seconds, total)) {
+      return false;
+    }
+    long sum = hours * SECONDS_PER_HOUR + total;
+    if (overflows(hours * SECONDS_PER_HOUR, total, sum)) {
+      return false;
+    }
+    total = days * SECONDS_PER_DAY + sum;
+    if (overflows(days * SECONDS_PER_DAY, sum, total)) {
+      return false;
+    }
+    if (nanos < 0) {
+      if (total == Long.MIN_VALUE) {
+        return false;
+      }
+      total--;
+      nanos += NANOS_PER_SECOND;
+    }
+    if (negate) {
+      if (nanos == 0) {
+        if (total == Long.MIN_VALUE) {
+          return false;
+        }
+        total = -total;
+      } else {
+        total = ~total;
+        nanos = NANOS_PER_SECOND - nanos;
+      }
+    }
+    return compare(total, nanos, min) >= 0 && compare(total, nanos, max) <= 0;
+  }
+
+  /**
+   * Checks whether the time elapsed between two instants is not negative and does not exceed the
+   * given maximum.
+   *
+   * @param startSecond the epoch second of the first instant
+   * @param startNano the nanosecond of second of the first instant
+   * @param endSecond the epoch second of the second instant
+   * @param endNano the nanosecond of second of the second instant
+   * @param max the largest accepted span, inclusive
+   * @return {@code true} if the second instant is not before the first one and within the span
+   */
+  static boolean isSpan(
+      long startSecond, int startNano, long endSecond, int endNano, Duration max) {
+    long seconds = endSecond - startSecond;
+    long nanos = (long) endNano - startNano;
+    if (nanos < 0) {
+      seconds--;
+      nanos += NANOS_PER_SECOND;
+    }
+    return seconds >= 0 && compare(seconds, nanos, max) <= 0;
+  }
+
+  /**
+   * Resolves the {@code maxSpan} attribute of a constraint.
+   *
+   * @param maxSpan the ISO 8601 duration, or an empty string
+   * @return the resolved maximum span, or {@link #MAX_DURATION} if empty
+   * @throws IllegalArgumentException if the maximum span is not a valid, non-negative ISO 8601
+   *     duration
+   */
+  static Duration parseMaxSpan(String maxSpan) throws IllegalArgumentException {
+    if (maxSpan.isEmpty()) {
+      return MAX_DURATION;
+    }
+    if (!isDuration(maxSpan, 0, maxSpan.length(), MIN_DURATION, MAX_DURATION)) {
+      throw new IllegalArgumentException("'" + maxSpan + "' is not a valid ISO 8601 duration");
+    }
+    Duration resolved = Duration.parse(maxSpan);
+    if (resolved.isNegative()) {
+      throw new IllegalArgumentException("maxSpan must not be negative, got " + maxSpan);
+    }
+    return resolved;
+  }
+
+  /**
+   * Scans a {@code PnYnMnWnD} period.
+   *
+   * @param value the value to scan
+   * @return the estimated length of the period, see {@link #estimatedLength}, or {@link
+   *     #INVALID_PERIOD}
+   */
+  static long scanPeriod(CharSequence value) {
+    int length = value.length();
+    int i = 0;
+    int negate = 1;
+    if (length > 0 && isSign(value.charAt(0))) {
+      negate = value.charAt(0) == '-' ? -1 : 1;
+      i++;
+    }
+    if (i == length || !isLetter(value.charAt(i), 'P')) {
+      return INVALID_PERIOD;
+    }
+    i++;
+    long years = 0;
+    long months = 0;
+    long weeks = 0;
+    long days = 0;
+    int lastUnit = -1;
+    while (i < length) {
+      boolean minus = value.charAt(i) == '-';
+      if (isSign(value.charAt(i))) {
+        i++;
+      }
+      int digitsStart = i;
+      long number = 0;
+      for (; i < length && isDigit(value.charAt(i)); i++) {
+        number = number * 10 + (value.charAt(i) - '0');
+        if (number > (long) Integer.MAX_VALUE + 1) {
+          return INVALID_PERIOD;
+        }
+      }
+      if (i == digitsStart || i == length) {
+        return INVALID_PERIOD;
+      }
+      number = minus ? -number : number;
+      if (number > Integer.MAX_VALUE || number * negate > Integer.MAX_VALUE) {
+        return INVALID_PERIOD;
+      }
+      number *= negate;
+      char designator = value.charAt(i++);
+      int unit;
+      if (isLetter(designator, 'Y')) {
+        unit = 0;
+        years = number;
+      } else if (isLetter(designator, 'M')) {
+        unit = 1;
+        months = number;
+      } else if (isLetter(designator, 'W')) {
+        unit = 2;
+        weeks = number * 7;
+      } else if (isLetter(designator, 'D')) {
+        unit = 3;
+        days = number;
+      } else {
+        return INVALID_PERIOD;
+      }
+      if (unit <= lastUnit) {
+        return INVALID_PERIOD;
+      }
+      lastUnit = unit;
+    }
+    if (lastUnit < 0 || !fitsInt(weeks) || !fitsInt(days + weeks)) {
+      return INVALID_PERIOD;
+    }
+    return estimatedLength(years, months, days + weeks);
+  }
+
+  /**
+   * Returns the estimated length of a period, comparable between periods.
+   *
+   * <p>A month is estimated as one twelfth of the average Gregorian year, as in {@link
+   * java.time.temporal.ChronoUnit#MONTHS}, and the result is scaled so that it is exact.
+   *
+   * @param years the years of the period
+   * @param months the months of the period
+   * @param days the days of the period
+   * @return the length of the period in units of 1/4800 of a day
+   */
+  static long estimatedLength(long years, long months, long days) {
+    return (years * 12 + months) * DAYS_PER_4800_MONTHS + days * 4800;
+  }
+
+  private static int compare(long seconds, long nanos, Duration bound) {
+    int comparison = Long.compare(seconds, bound.getSeconds());
+    return comparison != 0 ? comparison : Long.compare(nanos, bound.getNano());
+  }
+
+  private static boolean fitsMultiplied(long value, long multiplier) {
+    return value <= Long.MAX_VALUE / multiplier && value >= Long.MIN_VALUE / multiplier;
+  }
+
+  private static boolean overflows(long first, long second, long sum) {
+    return ((first ^ sum) & (second ^ sum)) < 0;
+  }
+
+  private static boolean fitsInt(long value) {
+    return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+  }
+
+  private static boolean isSign(char ch) {
+    return ch == '+' || ch == '-';
+  }
+
+  private static boolean isDigit(char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  private static boolean isLetter(char ch, char uppercase) {
+    return ch == uppercase || ch == uppercase + ('a' - 'A');
+  }
+}
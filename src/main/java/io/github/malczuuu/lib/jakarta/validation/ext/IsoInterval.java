@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a valid ISO 8601 time interval.
+ *
+ * <p>The value must be either two date-times separated by {@code /}, in the {@code start/end} form,
+ * or a date-time and a duration, in the {@code start/duration} form. Both date-times follow the
+ * rules of {@link IsoDateTime}, and the duration follows the rules of {@link IsoDuration}.
+ *
+ * <p>The start of the interval must not be after its end, and a duration must not be negative. If
+ * both date-times have an offset, they are compared as instants, and if neither has one, they are
+ * compared as local date-times. An interval with an offset on only one of its date-times cannot be
+ * ordered and is rejected. The length of the interval can be limited with {@link #maxSpan()}.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code 2024-01-01T00:00Z/2024-02-01T00:00Z} - start and end
+ *   <li>{@code 2024-01-01T00:00/2024-01-01T12:00} - start and end without offsets
+ *   <li>{@code 2024-01-01T00:00Z/P1DT12H} - start and duration
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code 2024-02-01T00:00Z/2024-01-01T00:00Z} - start after end
+ *   <li>{@code 2024-01-01T00:00Z/-PT1H} - negative duration
+ *   <li>{@code 2024-01-01/2024-02-01} - dates without time
+ *   <li>{@code 2024-01-01T10:00/2024-01-01T12:00+05:00} - offset on only one date-time
+ *   <li>{@code P1D/2024-01-01T00:00Z} - duration and end form is not supported
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;IsoInterval
+ * private String period;
+ *
+ * // At most 31 days, with both ends in UTC or with an offset
+ * &#064;IsoInterval(offsetRequired = true, maxSpan = "P31D")
+ * private String reportRange;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(IsoInterval.List.class)
+@Documented
+@Constraint(validatedBy = IsoIntervalValidator.class)
+public @interface IsoInterval {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid ISO 8601 interval";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns whether the date-times of the interval must have an offset.
+   *
+   * @return {@code true} if every date-time must end with an offset, {@code false} otherwise
+   * @since 1.3.0
+   */
+  boolean offsetRequired() default false;
+
+  /**
+   * Returns the longest accepted interval, inclusive.
+   *
+   * @return an ISO 8601 duration such as {@code P31D}, empty for no limit
+   * @since 1.3.0
+   */
+  String maxSpan() default "";
+
+  /**
+   * Defines several {@link IsoInterval} annotations on the same element.
+   *
+   * @see IsoInterval
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link IsoInterval} annotations.
+     *
+     * @return array of {@link IsoInterval} annotations
+     * @since 1.3.0
+     */
+    IsoInterval[] value();
+  }
+}
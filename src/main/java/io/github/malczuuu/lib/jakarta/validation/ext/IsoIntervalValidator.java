@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link IsoInterval} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a valid ISO 8601 time interval, with its end
+ * not before its start and not further from it than the maximum span.
+ *
+ * @since 1.3.0
+ */
+public class IsoIntervalValidator implements ConstraintValidator<IsoInterval, Object> {
+
+  private boolean offsetRequired = false;
+  private Duration maxSpan = IsoDurations.MAX_DURATION;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if the maximum span is not a valid, non-negative ISO 8601
+   *     duration
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(IsoInterval constraintAnnotation) throws IllegalArgumentException {
+    offsetRequired = constraintAnnotation.offsetRequired();
+    maxSpan = IsoDurations.parseMaxSpan(constraintAnnotation.maxSpan());
+  }
+
+  /**
+   * Validates that the given value is a valid ISO 8601 time interval.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          IsoInterval.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    CharSequence interval = (CharSequence) value;
+    int length = interval.length();
+    int slash = indexOfSlash(interval);
+    if (slash == length) {
+      return false;
+    }
+    IsoScanner.DateTimeFields start = new IsoScanner.DateTimeFields();
+    if (!IsoScanner.scanDateTime(
+        interval, 0, slash, offsetRequired, IsoScanner.ANY_POLICY, start)) {
+      return false;
+    }
+    if (isDurationAt(interval, slash + 1)) {
+      return IsoDurations.isDuration(interval, slash + 1, length, Duration.ZERO, maxSpan);
+    }
+    IsoScanner.DateTimeFields end = new IsoScanner.DateTimeFields();
+    if (!IsoScanner.scanDateTime(
+        interval, slash + 1, length, offsetRequired, IsoScanner.ANY_POLICY, end)) {
+      return false;
+    }
+    return start.hasOffset() == end.hasOffset()
+        && IsoDurations.isSpan(
+            start.epochSecond(), start.nanoOfSecond, end.epochSecond(), end.nanoOfSecond, maxSpan);
+  }
+
+  private static int indexOfSlash(CharSequence value) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) == '/') {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  /** Checks whether the value has a duration at the given position, possibly after a sign. */
+  private static boolean isDurationAt(CharSequence value, int from) {
+    int length = value.length();
+    if (from < length && (value.charAt(from) == '+' || value.charAt(from) == '-')) {
+      from++;
+    }
+    return from < length && (value.charAt(from) == 'P' || value.charAt(from) == 'p');
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parses ISO 8601 dates and date-times with the same scanner as the ISO validators of this library.
+ *
+ * <p>Each method accepts exactly the values accepted by the corresponding constraint, and converts
+ * them in the same single pass that validates them, without a {@link
+ * java.time.format.DateTimeFormatter} and without throwing exceptions for invalid values. Invalid
+ * values are reported by returning {@code null}, so a value can be validated and converted with a
+ * single call instead of being validated and then parsed again.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * OffsetDateTime timestamp = IsoParser.parseOffsetDateTime(request.getTimestamp());
+ * if (timestamp == null) {
+ *   throw new BadRequestException("timestamp must be a valid ISO 8601 date-time");
+ * }
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+public final class IsoParser {
+
+  private IsoParser() {}
+
+  /**
+   * Parses a {@code yyyy-MM-dd} date, as accepted by {@link IsoDate} with its default format.
+   *
+   * <p>The date is resolved in strict mode, so the day must exist in the month.
+   *
+   * @param value the value to parse
+   * @return the parsed date, or {@code null} if the value is not a valid date
+   * @since 1.3.0
+   */
+  public static @Nullable LocalDate parseDate(CharSequence value) {
+    long epochDay = IsoScanner.scanDate(value, 0, value.length(), false);
+    return epochDay == IsoScanner.INVALID_DATE ? null : LocalDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * Parses a date-time without an offset, as accepted by {@link IsoDateTime}.
+   *
+   * <p>The date-time is resolved in smart mode, so a day past the end of the month is clamped to
+   * its last day, and {@code 24:00} is the start of the next day.
+   *
+   * @param value the value to parse
+   * @return the parsed date-time, or {@code null} if the value is not a valid date-time or has an
+   *     offset
+   * @since 1.3.0
+   */
+  public static @Nullable LocalDateTime parseLocalDateTime(CharSequence value) {
+    int length = value.length();
+    int separator = IsoScanner.indexOfTimeSeparator(value, 0, length);
+    if (separator == length || IsoScanner.indexOfOffset(value, separator + 1, length) != length) {
+      return null;
+    }
+    return localDateTime(value, separator, length, true);
+  }
+
+  /**
+   * Parses a date-time with an offset, as accepted by {@link IsoDateTime} with {@link
+   * IsoDateTime#offsetRequired()} set.
+   *
+   * <p>The date-time is resolved in strict mode, and the offset may be {@code Z} or {@code
+   * ±HH[:MM[:ss]]} up to {@code ±18:00}.
+   *
+   * @param value the value to parse
+   * @return the parsed date-time, or {@code null} if the value is not a valid date-time or has no
+   *     offset
+   * @since 1.3.0
+   */
+  public static @Nullable OffsetDateTime parseOffsetDateTime(CharSequence value) {
+    int length = value.length();
+    int separator = IsoScanner.indexOfTimeSeparator(value, 0, length);
+    if (separator == length) {
+      return null;
+    }
+    int offset = IsoScanner.indexOfOffset(value, separator + 1, length);
+    return offset == length ? null : offsetDateTime(value, separator, offset, length);
+  }
+
+  /**
+   * Parses a date, a date-time without an offset or a date-time with an offset, as accepted by
+   * {@link IsoTemporal}.
+   *
+   * <p>The kind of the value is told by its {@code T} separator and offset, and the value is then
+   * parsed as by {@link #parseDate}, {@link #parseLocalDateTime} or {@link #parseOffsetDateTime}.
+   *
+   * @param value the value to parse
+   * @return the parsed {@link LocalDate}, {@link LocalDateTime} or {@link OffsetDateTime}, or
+   *     {@code null} if the value is none of them
+   * @since 1.3.0
+   */
+  public static @Nullable Temporal parseTemporal(CharSequence value) {
+    int length = value.length();
+    int separator = IsoScanner.indexOfTimeSeparator(value, 0, length);
+    if (separator == length) {
+      return parseDate(value);
+    }
+    int offset = IsoScanner.indexOfOffset(value, separator + 1, length);
+    return offset == length
+        ? localDateTime(value, separator, length, true)
+        : offsetDateTime(value, separator, offset, length);
+  }
+
+  /**
+   * Converts the date and the time preceding the given end of a value.
+   *
+   * @param value the value to parse
+   * @param separator the position of the {@code T} separator
+   * @param to the end of the time, exclusive
+   * @param smart whether the date-time is resolved in smart mode
+   * @return the date-time, or {@code null} if it is invalid
+   */
+  private static @Nullable LocalDateTime localDateTime(
+      CharSequence value, int separator, int to, boolean smart) {
+    long epochDay = IsoScanner.scanDate(value, 0, separator, smart);
+    if (epochDay == IsoScanner.INVALID_DATE) {
+      return null;
+    }
+    long time = IsoScanner.scanTime(value, separator + 1, to, smart);
+    if (time == IsoScanner.INVALID_TIME) {
+      return null;
+    }
+    long nanoOfDay = IsoScanner.nanoOfDay(time);
+    if (nanoOfDay == IsoScanner.NANOS_PER_DAY) {
+      if (epochDay == IsoScanner.MAX_EPOCH_DAY) {
+        return null;
+      }
+      epochDay++;
+      nanoOfDay = 0;
+    }
+    return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
+  }
+
+  private static @Nullable OffsetDateTime offsetDateTime(
+      CharSequence value, int separator, int offset, int to) {
+    int offsetSeconds = IsoScanner.scanOffset(value, offset, to, true, true);
+    if (offsetSeconds == IsoScanner.INVALID_OFFSET
+        || Math.abs(offsetSeconds) > IsoScanner.MAX_OFFSET_SECONDS) {
+      return null;
+    }
+    LocalDateTime dateTime = localDateTime(value, separator, offset, false);
+    return dateTime == null
+        ? null
+        : OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(offsetSeconds));
+  }
+}
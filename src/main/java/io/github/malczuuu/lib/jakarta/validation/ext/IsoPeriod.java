@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a valid ISO 8601 period string.
+ *
+ * <p>The value must be in the format {@code PnYnMnWnD}, as accepted by {@link
+ * java.time.Period#parse(CharSequence)}. Letters are case-insensitive, every number may have a
+ * sign, and the whole period may be negated with a leading {@code -}.
+ *
+ * <p>Accepted periods can be restricted to a range with {@link #min()} and {@link #max()}. As
+ * months and years have no fixed length, periods are compared by their estimated length, where a
+ * month is one twelfth of the average Gregorian year, as in {@link
+ * java.time.temporal.ChronoUnit#MONTHS}. For example, {@code P1M} is longer than {@code P30D} but
+ * shorter than {@code P31D}.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code P3M} - 3 months
+ *   <li>{@code P1Y2M10D} - 1 year, 2 months and 10 days
+ *   <li>{@code P2W} - 2 weeks
+ *   <li>{@code -P1D} - negative period
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code PT15M} - time components are not supported by periods, see {@link IsoDuration}
+ *   <li>{@code P1D2M} - components out of order
+ *   <li>{@code P} - no period components
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;IsoPeriod
+ * private String retention;
+ *
+ * // Between one day and one year
+ * &#064;IsoPeriod(min = "P1D", max = "P1Y")
+ * private String subscriptionLength;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(IsoPeriod.List.class)
+@Documented
+@Constraint(validatedBy = IsoPeriodValidator.class)
+public @interface IsoPeriod {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid ISO 8601 period";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the shortest accepted period, inclusive.
+   *
+   * @return an ISO 8601 period such as {@code P1D}, empty for no lower bound
+   * @since 1.3.0
+   */
+  String min() default "";
+
+  /**
+   * Returns the longest accepted period, inclusive.
+   *
+   * @return an ISO 8601 period such as {@code P1Y}, empty for no upper bound
+   * @since 1.3.0
+   */
+  String max() default "";
+
+  /**
+   * Defines several {@link IsoPeriod} annotations on the same element.
+   *
+   * @see IsoPeriod
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link IsoPeriod} annotations.
+     *
+     * @return array of {@link IsoPeriod} annotations
+     * @since 1.3.0
+     */
+    IsoPeriod[] value();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link IsoPeriod} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a valid ISO 8601 period string.
+ *
+ * @since 1.3.0
+ */
+public class IsoPeriodValidator implements ConstraintValidator<IsoPeriod, Object> {
+
+  private long min = Long.MIN_VALUE;
+  private long max = Long.MAX_VALUE;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if a bound is not a valid ISO 8601 period
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(IsoPeriod constraintAnnotation) throws IllegalArgumentException {
+    min = parseBound(constraintAnnotation.min(), Long.MIN_VALUE);
+    max = parseBound(constraintAnnotation.max(), Long.MAX_VALUE);
+  }
+
+  /**
+   * Validates that the given value is a valid ISO 8601 period string.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          IsoPeriod.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    long length = IsoDurations.scanPeriod((CharSequence) value);
+    return length != IsoDurations.INVALID_PERIOD && length >= min && length <= max;
+  }
+
+  /**
+   * Resolves a bound of the accepted range.
+   *
+   * @param bound the ISO 8601 period, or an empty string
+   * @param unbounded the value to use if the bound is empty
+   * @return the estimated length of the bound
+   * @throws IllegalArgumentException if the bound is not a valid ISO 8601 period
+   */
+  private static long parseBound(String bound, long unbounded) throws IllegalArgumentException {
+    if (bound.isEmpty()) {
+      return unbounded;
+    }
+    long length = IsoDurations.scanPeriod(bound);
+    if (length == IsoDurations.INVALID_PERIOD) {
+      throw new IllegalArgumentException("'" + bound + "' is not a valid ISO 8601 period");
+    }
+    return length;
+  }
+}
@@ -0,0 +1,782 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Fixed-layout scanner for ISO 8601 dates, times and offsets.
+ *
+ * <p>The scanner accepts exactly the values accepted by the corresponding {@link
+ * java.time.format.DateTimeFormatter} constants, but works on any {@code CharSequence} in a single
+ * pass, without allocating and without throwing exceptions for invalid values. Results are returned
+ * as primitives, with sentinel values for invalid input.
+ *
+ * <p>Two resolver styles are supported, mirroring {@link java.time.format.ResolverStyle}:
+ *
+ * <ul>
+ *   <li><em>strict</em> - the day must exist in the month and hours range from {@code 00} to {@code
+ *       23}
+ *   <li><em>smart</em> - any day from {@code 01} to {@code 31} is accepted and clamped to the last
+ *       day of the month, and {@code 24:00} is accepted as the start of the next day
+ * </ul>
+ *
+ * <p>Times and date-times are also checked against a policy, see {@link #policy}, restricting the
+ * precision and the offset of the value while it is scanned.
+ */
+final class IsoScanner {
+
+  /** Returned by {@link #scanDate} for invalid dates. */
+  static final long INVALID_DATE = Long.MIN_VALUE;
+
+  /** Returned by {@link #scanTime} for invalid times. */
+  static final long INVALID_TIME = -1L;
+
+  /** Returned by {@link #scanDateTime} for invalid date-times. */
+  static final long INVALID_DATE_TIME = Long.MIN_VALUE;
+
+  /** Returned by {@link #scanOffset} for invalid offsets. */
+  static final int INVALID_OFFSET = Integer.MIN_VALUE;
+
+  /** Number of nanoseconds in a day, returned as the time of {@code 24:00} in smart mode. */
+  static final long NANOS_PER_DAY = 86_400_000_000_000L;
+
+  /** Largest epoch day, {@code +999999999-12-31}. */
+  static final long MAX_EPOCH_DAY = 365_241_780_471L;
+
+  /** Smallest epoch day, {@code -999999999-01-01}. */
+  static final long MIN_EPOCH_DAY = -365_243_219_162L;
+
+  /** Largest offset of a date-time, {@code ±18:00}, in seconds. */
+  static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+  /** Date format flag for the extended {@code yyyy-MM-dd} form, see {@link #scanDate}. */
+  static final int EXTENDED_DATE = 1;
+
+  /** Date format flag for the basic {@code yyyyMMdd} form, see {@link #scanDate}. */
+  static final int BASIC_DATE = 1 << 1;
+
+  /** Date format flag for the week date {@code YYYY-Www-D} form, see {@link #scanDate}. */
+  static final int WEEK_DATE = 1 << 2;
+
+  /** Date format flag for the ordinal date {@code yyyy-DDD} form, see {@link #scanDate}. */
+  static final int ORDINAL_DATE = 1 << 3;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long SECONDS_PER_DAY = 86_400L;
+  private static final int MAX_YEAR = 999_999_999;
+  private static final long DAYS_0000_TO_1970 = 719_528L;
+
+  private static final long NANOS_MASK = (1L << 47) - 1;
+  private static final int FRACTION_DIGITS_SHIFT = 48;
+  private static final long SECONDS_PRESENT = 1L << 52;
+  private static final long FRACTION_PRESENT = 1L << 53;
+
+  /** Policy accepting seconds, up to nine fraction digits and any offset, see {@link #policy}. */
+  static final int ANY_POLICY = 9;
+
+  private static final int FRACTION_DIGITS_MASK = 0xF;
+  private static final int SECONDS_REQUIRED = 1 << 4;
+  private static final int ZERO_OFFSET_REQUIRED = 1 << 5;
+  private static final int ZERO_OFFSET_REJECTED = 1 << 6;
+
+  /**
+   * Policy flag restricting date-times to RFC 3339, with a 4-digit year and an offset of exactly
+   * {@code Z} or {@code ±HH:MM}. It must be combined with a required offset and required seconds.
+   */
+  static final int RFC_3339 = 1 << 7;
+
+  private static final long[] POWERS_OF_TEN = {
+    1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+  };
+
+  private IsoScanner() {}
+
+  /**
+   * Packs the restrictions applied to the time and the offset of scanned values.
+   *
+   * @param secondsRequired whether the seconds must be present
+   * @param maxFractionDigits the largest accepted number of fraction digits
+   * @param offsetPolicy the offsets to accept
+   * @return the packed policy
+   * @throws IllegalArgumentException if {@code maxFractionDigits} is not between {@code 0} and
+   *     {@code 9}
+   */
+  static int policy(boolean secondsRequired, int maxFractionDigits, OffsetPolicy offsetPolicy)
+      throws IllegalArgumentException {
+    if (maxFractionDigits < 0 || maxFractionDigits > 9) {
+      throw new IllegalArgumentException(
+          "maxFractionDigits must be between 0 and 9, got " + maxFractionDigits);
+    }
+    int policy = maxFractionDigits;
+    if (secondsRequired) {
+      policy |= SECONDS_REQUIRED;
+    }
+    if (offsetPolicy == OffsetPolicy.UTC_ONLY) {
+      policy |= ZERO_OFFSET_REQUIRED;
+    } else if (offsetPolicy == OffsetPolicy.NON_ZERO) {
+      policy |= ZERO_OFFSET_REJECTED;
+    }
+    return policy;
+  }
+
+  /**
+   * Checks whether the given value is a date accepted by {@code ISO_LOCAL_DATE}.
+   *
+   * @param value the value to check
+   * @return {@code true} if the value is a valid date
+   */
+  static boolean isDate(CharSequence value) {
+    return scanDate(value, 0, value.length(), false) != INVALID_DATE;
+  }
+
+  /**
+   * Scans a date in any of the given formats.
+   *
+   * <p>The format is selected from the separator positions counted from the end of the value, so
+   * each value is scanned at most once:
+   *
+   * <ul>
+   *   <li>{@code -} three characters before the end - {@link #EXTENDED_DATE}
+   *   <li>{@code -} two characters before the end - {@link #WEEK_DATE}
+   *   <li>{@code -} four characters before the end - {@link #ORDINAL_DATE}
+   *   <li>eight characters without separators - {@link #BASIC_DATE}
+   * </ul>
+   *
+   * <p>All formats are resolved in strict mode, as in {@link
+   * java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}, {@link
+   * java.time.format.DateTimeFormatter#BASIC_ISO_DATE}, {@link
+   * java.time.format.DateTimeFormatter#ISO_WEEK_DATE} and {@link
+   * java.time.format.DateTimeFormatter#ISO_ORDINAL_DATE}, without their optional offsets.
+   *
+   * @param value the value to scan
+   * @param formats the combination of date format flags to accept
+   * @return the epoch day of the date, or {@link #INVALID_DATE}
+   */
+  static long scanDate(CharSequence value, int formats) {
+    int length = value.length();
+    if (length < 8) {
+      return INVALID_DATE;
+    }
+    if (value.charAt(length - 3) == '-') {
+      return (formats & EXTENDED_DATE) != 0 ? scanDate(value, 0, length, false) : INVALID_DATE;
+    }
+    if (value.charAt(length - 2) == '-') {
+      return (formats & WEEK_DATE) != 0 ? scanWeekDate(value, length) : INVALID_DATE;
+    }
+    if (value.charAt(length - 4) == '-') {
+      return (formats & ORDINAL_DATE) != 0 ? scanOrdinalDate(value, length) : INVALID_DATE;
+    }
+    if (length == 8) {
+      return (formats & BASIC_DATE) != 0 ? scanBasicDate(value) : INVALID_DATE;
+    }
+    return INVALID_DATE;
+  }
+
+  /**
+   * Checks whether the given value is a time with an optional offset, or with a required offset.
+   *
+   * <p>Without a required offset, the value is resolved in smart mode and the offset designator
+   * {@code Z} is case-sensitive. With a required offset, the value is resolved in strict mode and
+   * {@code z} is also accepted. The offset may be up to {@code ±23:59:59}, as a time alone is never
+   * converted to an instant.
+   *
+   * @param value the value to check
+   * @param offsetRequired whether the value must end with an offset
+   * @param policy the packed policy, see {@link #policy}
+   * @return {@code true} if the value is a valid time
+   */
+  static boolean isTime(CharSequence value, boolean offsetRequired, int policy) {
+    int length = value.length();
+    int offset = indexOfOffset(value, 0, length);
+    if (offset == length) {
+      return !offsetRequired && accepts(scanTime(value, 0, length, true), policy);
+    }
+    return accepts(scanTime(value, 0, offset, !offsetRequired), policy)
+        && acceptsOffset(scanOffset(value, offset, length, false, offsetRequired), policy);
+  }
+
+  /**
+   * Checks whether the given value is a date-time with an optional offset, or with a required
+   * offset.
+   *
+   * @param value the value to check
+   * @param offsetRequired whether the value must end with an offset
+   * @return {@code true} if the value is a valid date-time
+   * @see #scanDateTime(CharSequence, int, int, boolean, int)
+   */
+  static boolean isDateTime(CharSequence value, boolean offsetRequired) {
+    return scanDateTime(value, 0, value.length(), offsetRequired, ANY_POLICY) != INVALID_DATE_TIME;
+  }
+
+  /**
+   * Scans a date-time with an optional offset, or with a required offset.
+   *
+   * <p>Without a required offset, the value is resolved in smart mode and the offset must use the
+   * {@code ±HH:MM[:ss]} form. With a required offset, the value is resolved in strict mode and the
+   * shorter {@code ±HH} form is also accepted. In both modes the {@code T} separator and the {@code
+   * Z} designator are case-insensitive and the offset may not exceed {@code ±18:00}.
+   *
+   * @param value the value to scan
+   * @param from the start of the date-time, inclusive
+   * @param to the end of the date-time, exclusive, such as the start of a zone ID
+   * @param offsetRequired whether the date-time must end with an offset
+   * @param policy the packed policy, see {@link #policy}
+   * @return the local date-time as seconds since {@code 1970-01-01T00:00}, ignoring the offset and
+   *     the fraction of second, or {@link #INVALID_DATE_TIME}
+   */
+  static long scanDateTime(
+      CharSequence value, int from, int to, boolean offsetRequired, int policy) {
+    return scanDateTimeInto(value, from, to, offsetRequired, policy, null);
+  }
+
+  /**
+   * Scans a date-time like {@link #scanDateTime(CharSequence, int, int, boolean, int)}, and stores
+   * its local second, nanosecond of second and offset in the given fields.
+   *
+   * @param value the value to scan
+   * @param from the start of the date-time, inclusive
+   * @param to the end of the date-time, exclusive, such as the start of a zone ID
+   * @param offsetRequired whether the date-time must end with an offset
+   * @param policy the packed policy, see {@link #policy}
+   * @param fields the fields to fill, left unspecified if the date-time is invalid
+   * @return {@code true} if the date-time is valid
+   */
+  static boolean scanDateTime(
+      CharSequence value,
+      int from,
+      int to,
+      boolean offsetRequired,
+      int policy,
+      DateTimeFields fields) {
+    return scanDateTimeInto(value, from, to, offsetRequired, policy, fields) != INVALID_DATE_TIME;
+  }
+
+  private static long scanDateTimeInto(
+      CharSequence value,
+      int from,
+      int to,
+      boolean offsetRequired,
+      int policy,
+      @Nullable DateTimeFields fields) {
+    int separator = indexOfTimeSeparator(value, from, to);
+    if (separator == to) {
+      return INVALID_DATE_TIME;
+    }
+    boolean smart = !offsetRequired;
+    long date = scanDate(value, from, separator, smart);
+    if (date == INVALID_DATE) {
+      return INVALID_DATE_TIME;
+    }
+    int offset = indexOfOffset(value, separator + 1, to);
+    if ((policy & RFC_3339) != 0 && !isRfc3339(value, from, separator, offset, to)) {
+      return INVALID_DATE_TIME;
+    }
+    long time = scanTime(value, separator + 1, offset, smart);
+    if (!accepts(time, policy)) {
+      return INVALID_DATE_TIME;
+    }
+    if (nanoOfDay(time) == NANOS_PER_DAY && date == MAX_EPOCH_DAY) {
+      return INVALID_DATE_TIME;
+    }
+    if (offset == to) {
+      if (offsetRequired) {
+        return INVALID_DATE_TIME;
+      }
+      return fill(fields, toEpochSecond(date, time), time, INVALID_OFFSET);
+    }
+    int offsetSeconds = scanOffset(value, offset, to, offsetRequired, true);
+    if (!acceptsOffset(offsetSeconds, policy) || Math.abs(offsetSeconds) > MAX_OFFSET_SECONDS) {
+      return INVALID_DATE_TIME;
+    }
+    return fill(fields, toEpochSecond(date, time), time, offsetSeconds);
+  }
+
+  private static long fill(
+      @Nullable DateTimeFields fields, long localSecond, long time, int offsetSeconds) {
+    if (fields != null) {
+      fields.localSecond = localSecond;
+      fields.nanoOfSecond = (int) (nanoOfDay(time) % NANOS_PER_SECOND);
+      fields.offsetSeconds = offsetSeconds;
+    }
+    return localSecond;
+  }
+
+  /**
+   * Checks the year, time and offset lengths allowed by RFC 3339. A time of 9 characters is a
+   * {@code HH:mm:ss.} time with no fraction digits, which RFC 3339 does not allow.
+   */
+  private static boolean isRfc3339(
+      CharSequence value, int from, int separator, int offset, int to) {
+    char first = value.charAt(from);
+    int offsetLength = to - offset;
+    return separator - from == 10
+        && first != '+'
+        && first != '-'
+        && offset - separator - 1 != 9
+        && (offsetLength == 1 || offsetLength == 6);
+  }
+
+  private static boolean accepts(long time, int policy) {
+    int maxFractionDigits = policy & FRACTION_DIGITS_MASK;
+    return time != INVALID_TIME
+        && fractionDigits(time) <= maxFractionDigits
+        && (maxFractionDigits != 0 || (time & FRACTION_PRESENT) == 0)
+        && ((policy & SECONDS_REQUIRED) == 0 || hasSeconds(time));
+  }
+
+  private static boolean acceptsOffset(int offsetSeconds, int policy) {
+    if (offsetSeconds == INVALID_OFFSET) {
+      return false;
+    }
+    if ((policy & ZERO_OFFSET_REQUIRED) != 0) {
+      return offsetSeconds == 0;
+    }
+    return (policy & ZERO_OFFSET_REJECTED) == 0 || offsetSeconds != 0;
+  }
+
+  private static long toEpochSecond(long epochDay, long time) {
+    return epochDay * SECONDS_PER_DAY + nanoOfDay(time) / NANOS_PER_SECOND;
+  }
+
+  /**
+   * Returns the position of the {@code T} separating the date and the time.
+   *
+   * @param value the value to search
+   * @param from the start of the search, inclusive
+   * @param to the end of the search, exclusive
+   * @return the position of the first {@code T} or {@code t}, or {@code to} if there is none
+   */
+  static int indexOfTimeSeparator(CharSequence value, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char ch = value.charAt(i);
+      if (ch == 'T' || ch == 't') {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Returns the position where the offset following a time starts.
+   *
+   * @param value the value to search
+   * @param from the position where the time starts
+   * @param to the end of the search, exclusive
+   * @return the position of the first {@code Z}, {@code z}, {@code +} or {@code -}, or {@code to}
+   *     if there is none
+   */
+  static int indexOfOffset(CharSequence value, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char ch = value.charAt(i);
+      if (ch == 'Z' || ch == 'z' || ch == '+' || ch == '-') {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Returns the position of the bracketed zone ID ending a date-time, such as {@code
+   * [Europe/Warsaw]}.
+   *
+   * @param value the value to search
+   * @return the position of the opening {@code [} if the value ends with {@code ]}, or the length
+   *     of the value
+   */
+  static int indexOfZoneId(CharSequence value) {
+    int length = value.length();
+    if (length == 0 || value.charAt(length - 1) != ']') {
+      return length;
+    }
+    for (int i = length - 2; i >= 0; i--) {
+      if (value.charAt(i) == '[') {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Scans a {@code yyyy-MM-dd} date, where the year has 4 digits, or 5 to 10 digits with a
+   * mandatory sign.
+   *
+   * @param value the value to scan
+   * @param from the start of the date, inclusive
+   * @param to the end of the date, exclusive
+   * @param smart whether days past the end of the month are clamped instead of rejected
+   * @return the epoch day of the date, or {@link #INVALID_DATE}
+   */
+  static long scanDate(CharSequence value, int from, int to, boolean smart) {
+    if (to - from < 10) {
+      return INVALID_DATE;
+    }
+    int yearEnd = to - 6;
+    int year = scanYear(value, from, yearEnd);
+    if (year == Integer.MIN_VALUE || value.charAt(yearEnd) != '-' || value.charAt(to - 3) != '-') {
+      return INVALID_DATE;
+    }
+    int month = twoDigits(value, yearEnd + 1);
+    int day = twoDigits(value, to - 2);
+    if (month < 1 || month > 12 || day < 1) {
+      return INVALID_DATE;
+    }
+    int monthLength = monthLength(year, month);
+    if (day > monthLength) {
+      if (!smart || day > 31) {
+        return INVALID_DATE;
+      }
+      day = monthLength;
+    }
+    return epochDay(year, month, day);
+  }
+
+  /** Scans a {@code yyyyMMdd} date, where the year has exactly 4 digits. */
+  private static long scanBasicDate(CharSequence value) {
+    int year = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return INVALID_DATE;
+      }
+      year = year * 10 + digit;
+    }
+    int month = twoDigits(value, 4);
+    int day = twoDigits(value, 6);
+    if (month < 1 || month > 12 || day < 1 || day > monthLength(year, month)) {
+      return INVALID_DATE;
+    }
+    return epochDay(year, month, day);
+  }
+
+  /**
+   * Scans a {@code YYYY-Www-D} week date, where weeks start on Monday and the first week of the
+   * week-based year is the one containing its first Thursday.
+   */
+  private static long scanWeekDate(CharSequence value, int to) {
+    if (to < 10) {
+      return INVALID_DATE;
+    }
+    int yearEnd = to - 6;
+    int year = scanYear(value, 0, yearEnd);
+    char designator = value.charAt(yearEnd + 1);
+    if (year == Integer.MIN_VALUE
+        || value.charAt(yearEnd) != '-'
+        || (designator != 'W' && designator != 'w')) {
+      return INVALID_DATE;
+    }
+    int week = twoDigits(value, yearEnd + 2);
+    int day = value.charAt(to - 1) - '0';
+    if (week < 1 || week > weeksInYear(year) || day < 1 || day > 7) {
+      return INVALID_DATE;
+    }
+    long january4 = epochDay(year, 1, 4);
+    long epochDay = january4 - (dayOfWeek(january4) - 1) + (week - 1) * 7L + (day - 1);
+    return epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY ? INVALID_DATE : epochDay;
+  }
+
+  /** Scans a {@code yyyy-DDD} ordinal date. */
+  private static long scanOrdinalDate(CharSequence value, int to) {
+    int yearEnd = to - 4;
+    int year = scanYear(value, 0, yearEnd);
+    if (year == Integer.MIN_VALUE) {
+      return INVALID_DATE;
+    }
+    int hundreds = value.charAt(yearEnd + 1) - '0';
+    int rest = twoDigits(value, yearEnd + 2);
+    if (hundreds < 0 || hundreds > 9 || rest < 0) {
+      return INVALID_DATE;
+    }
+    int dayOfYear = hundreds * 100 + rest;
+    if (dayOfYear < 1 || dayOfYear > (isLeapYear(year) ? 366 : 365)) {
+      return INVALID_DATE;
+    }
+    return epochDay(year, 1, 1) + dayOfYear - 1;
+  }
+
+  /** Returns the ISO day of week of an epoch day, from {@code 1} for Monday to {@code 7}. */
+  static int dayOfWeek(long epochDay) {
+    return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+  }
+
+  /** Returns the number of weeks in a week-based year, {@code 53} if it starts on a Thursday. */
+  private static int weeksInYear(int year) {
+    int january1 = dayOfWeek(epochDay(year, 1, 1));
+    return january1 == 4 || (january1 == 3 && isLeapYear(year)) ? 53 : 52;
+  }
+
+  /**
+   * Scans a {@code HH:mm[:ss[.SSSSSSSSS]]} time, with up to nine fraction digits.
+   *
+   * @param value the value to scan
+   * @param from the start of the time, inclusive
+   * @param to the end of the time, exclusive
+   * @param smart whether {@code 24:00} is accepted as the end of the day
+   * @return the packed time, see {@link #nanoOfDay}, {@link #hasSeconds} and {@link
+   *     #fractionDigits}, or {@link #INVALID_TIME}
+   */
+  static long scanTime(CharSequence value, int from, int to, boolean smart) {
+    int length = to - from;
+    if ((length != 5 && (length < 8 || length > 18)) || value.charAt(from + 2) != ':') {
+      return INVALID_TIME;
+    }
+    int hour = twoDigits(value, from);
+    int minute = twoDigits(value, from + 3);
+    if (hour < 0 || minute < 0 || minute > 59) {
+      return INVALID_TIME;
+    }
+    int second = 0;
+    long nano = 0;
+    long flags = 0;
+    if (length > 5) {
+      second = twoDigits(value, from + 6);
+      if (value.charAt(from + 5) != ':' || second < 0 || second > 59) {
+        return INVALID_TIME;
+      }
+      flags = SECONDS_PRESENT;
+      if (length > 8) {
+        if (value.charAt(from + 8) != '.') {
+          return INVALID_TIME;
+        }
+        flags |= FRACTION_PRESENT;
+        int digits = length - 9;
+        for (int i = from + 9; i < to; i++) {
+          int digit = value.charAt(i) - '0';
+          if (digit < 0 || digit > 9) {
+            return INVALID_TIME;
+          }
+          nano = nano * 10 + digit;
+        }
+        nano *= POWERS_OF_TEN[9 - digits];
+        flags |= (long) digits << FRACTION_DIGITS_SHIFT;
+      }
+    }
+    if (hour > 23) {
+      if (!smart || hour != 24 || minute != 0 || second != 0 || nano != 0) {
+        return INVALID_TIME;
+      }
+      return NANOS_PER_DAY | flags;
+    }
+    return (((hour * 60 + minute) * 60 + second) * NANOS_PER_SECOND + nano) | flags;
+  }
+
+  /**
+   * Returns the nanosecond of the day of a packed time.
+   *
+   * @param time the packed time returned by {@link #scanTime}
+   * @return the nanosecond of the day, {@link #NANOS_PER_DAY} for {@code 24:00}
+   */
+  static long nanoOfDay(long time) {
+    return time & NANOS_MASK;
+  }
+
+  /**
+   * Returns whether a packed time has seconds.
+   *
+   * @param time the packed time returned by {@link #scanTime}
+   * @return {@code true} if the seconds were present in the value
+   */
+  static boolean hasSeconds(long time) {
+    return (time & SECONDS_PRESENT) != 0;
+  }
+
+  /**
+   * Returns the number of fraction digits of a packed time.
+   *
+   * @param time the packed time returned by {@link #scanTime}
+   * @return the number of digits after the decimal point, from {@code 0} to {@code 9}
+   */
+  static int fractionDigits(long time) {
+    return (int) (time >>> FRACTION_DIGITS_SHIFT) & 0xF;
+  }
+
+  /**
+   * Scans a {@code Z} or {@code ±HH:MM[:ss]} offset, with hours up to {@code 23}.
+   *
+   * @param value the value to scan
+   * @param from the start of the offset, inclusive
+   * @param to the end of the offset, exclusive
+   * @param lenient whether the minutes may also be omitted
+   * @param ignoreCase whether {@code z} is accepted in place of {@code Z}
+   * @return the total offset in seconds, or {@link #INVALID_OFFSET}
+   */
+  static int scanOffset(CharSequence value, int from, int to, boolean lenient, boolean ignoreCase) {
+    int length = to - from;
+    char sign = value.charAt(from);
+    if (length == 1) {
+      return sign == 'Z' || (ignoreCase && sign == 'z') ? 0 : INVALID_OFFSET;
+    }
+    if (sign != '+' && sign != '-') {
+      return INVALID_OFFSET;
+    }
+    if (length != 6 && length != 9 && (!lenient || length != 3)) {
+      return INVALID_OFFSET;
+    }
+    int hours = twoDigits(value, from + 1);
+    if (hours < 0 || hours > 23) {
+      return INVALID_OFFSET;
+    }
+    int minutes = 0;
+    int seconds = 0;
+    if (length > 3) {
+      minutes = twoDigits(value, from + 4);
+      if (value.charAt(from + 3) != ':' || minutes < 0 || minutes > 59) {
+        return INVALID_OFFSET;
+      }
+      if (length > 6) {
+        seconds = twoDigits(value, from + 7);
+        if (value.charAt(from + 6) != ':' || seconds < 0 || seconds > 59) {
+          return INVALID_OFFSET;
+        }
+      }
+    }
+    int total = (hours * 60 + minutes) * 60 + seconds;
+    return sign == '-' ? -total : total;
+  }
+
+  /**
+   * Scans a year of 4 unsigned digits, 5 to 10 digits after {@code +}, or 4 to 10 digits after
+   * {@code -}, excluding negative zero.
+   *
+   * @return the year, or {@link Integer#MIN_VALUE} if invalid
+   */
+  private static int scanYear(CharSequence value, int from, int to) {
+    char sign = value.charAt(from);
+    int start = sign == '+' || sign == '-' ? from + 1 : from;
+    int digits = to - start;
+    if (start == from ? digits != 4 : digits > 10 || digits < (sign == '+' ? 5 : 4)) {
+      return Integer.MIN_VALUE;
+    }
+    long year = 0;
+    for (int i = start; i < to; i++) {
+      int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return Integer.MIN_VALUE;
+      }
+      year = year * 10 + digit;
+    }
+    if (year > MAX_YEAR || (sign == '-' && year == 0)) {
+      return Integer.MIN_VALUE;
+    }
+    return sign == '-' ? (int) -year : (int) year;
+  }
+
+  /** Parses two ASCII digits, or returns {@code -1} if any of them is not a digit. */
+  static int twoDigits(CharSequence value, int from) {
+    int tens = value.charAt(from) - '0';
+    int ones = value.charAt(from + 1) - '0';
+    if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+      return -1;
+    }
+    return tens * 10 + ones;
+  }
+
+  /**
+   * Returns the number of days in the given month.
+   *
+   * @param year the proleptic year
+   * @param month the month, from 1 to 12
+   * @return the length of the month
+   */
+  static int monthLength(int year, int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Checks whether the given proleptic year is a leap year.
+   *
+   * @param year the proleptic year
+   * @return {@code true} if the year is a leap year
+   */
+  static boolean isLeapYear(long year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /**
+   * Returns the epoch day of the given date, as in {@link java.time.LocalDate#toEpochDay()}.
+   *
+   * @param year the proleptic year
+   * @param month the month, from 1 to 12
+   * @param day the valid day of the month
+   * @return the number of days since {@code 1970-01-01}
+   */
+  static long epochDay(long year, int month, int day) {
+    long total = 365 * year;
+    if (year >= 0) {
+      total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    } else {
+      total -= year / -4 - year / -100 + year / -400;
+    }
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Fields of a date-time filled by {@link #scanDateTime(CharSequence, int, int, boolean, int,
+   * DateTimeFields)}, so they are extracted in the same pass that validates the date-time.
+   *
+   * <p>Instances are mutable and not thread-safe, and are meant to be created per validation and
+   * reused for the values it scans.
+   */
+  static final class DateTimeFields {
+
+    /** The local date-time as seconds since {@code 1970-01-01T00:00}, ignoring the offset. */
+    long localSecond;
+
+    /** The fraction of second in nanoseconds. */
+    int nanoOfSecond;
+
+    /** The offset in seconds, or {@link IsoScanner#INVALID_OFFSET} if the date-time has none. */
+    int offsetSeconds = INVALID_OFFSET;
+
+    /**
+     * Returns whether the date-time has an offset.
+     *
+     * @return {@code true} if the date-time ends with an offset
+     */
+    boolean hasOffset() {
+      return offsetSeconds != INVALID_OFFSET;
+    }
+
+    /**
+     * Returns the date-time as seconds since {@code 1970-01-01T00:00Z} if it has an offset, or as
+     * local seconds otherwise.
+     *
+     * @return the epoch second of the date-time
+     */
+    long epochSecond() {
+      return hasOffset() ? localSecond - offsetSeconds : localSecond;
+    }
+  }
+}
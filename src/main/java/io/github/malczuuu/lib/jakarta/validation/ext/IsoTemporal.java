@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a valid ISO 8601 date, local
+ * date-time or offset date-time string.
+ *
+ * <p>The kinds of values that are accepted are selected with {@link #accept()}, and all of them are
+ * accepted by default. Each value is classified by the positions of its {@code T} separator and its
+ * offset, and is then checked only against the grammar of its kind:
+ *
+ * <ul>
+ *   <li>{@link Kind#DATE} - as {@link IsoDate}, e.g. {@code 2024-01-15}
+ *   <li>{@link Kind#DATE_TIME} - as {@link IsoDateTime} without an offset, e.g. {@code
+ *       2024-01-15T10:30:00}
+ *   <li>{@link Kind#OFFSET_DATE_TIME} - as {@link IsoDateTime} with a required offset, e.g. {@code
+ *       2024-01-15T10:30:00+01:00}
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code 2024-01-15T} - missing time
+ *   <li>{@code 10:30:00} - time, not a date
+ *   <li>{@code 2024-01-15T10:30:00Z} - with {@code accept = {DATE, DATE_TIME}}
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * &#064;IsoTemporal
+ * private String observedAt;
+ *
+ * // A date, or a date-time with an offset
+ * &#064;IsoTemporal(accept = {Kind.DATE, Kind.OFFSET_DATE_TIME})
+ * private String effectiveFrom;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(IsoTemporal.List.class)
+@Documented
+@Constraint(validatedBy = IsoTemporalValidator.class)
+public @interface IsoTemporal {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid ISO 8601 date or date-time";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns the accepted kinds of values.
+   *
+   * @return the accepted kinds, at least one
+   * @since 1.3.0
+   */
+  Kind[] accept() default {Kind.DATE, Kind.DATE_TIME, Kind.OFFSET_DATE_TIME};
+
+  /**
+   * Kinds of ISO 8601 values that can be used with {@link IsoTemporal#accept()}.
+   *
+   * @since 1.3.0
+   */
+  enum Kind {
+
+    /** Date without time, e.g. {@code 2024-01-15}. */
+    DATE,
+
+    /** Date-time without offset, e.g. {@code 2024-01-15T10:30:00}. */
+    DATE_TIME,
+
+    /** Date-time with offset, e.g. {@code 2024-01-15T10:30:00Z}. */
+    OFFSET_DATE_TIME
+  }
+
+  /**
+   * Defines several {@link IsoTemporal} annotations on the same element.
+   *
+   * @see IsoTemporal
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link IsoTemporal} annotations.
+     *
+     * @return array of {@link IsoTemporal} annotations
+     * @since 1.3.0
+     */
+    IsoTemporal[] value();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link IsoTemporal} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a valid ISO 8601 date, local date-time or
+ * offset date-time string.
+ *
+ * @since 1.3.0
+ */
+public class IsoTemporalValidator implements ConstraintValidator<IsoTemporal, Object> {
+
+  private static final int DATE = 1;
+  private static final int DATE_TIME = 1 << 1;
+  private static final int OFFSET_DATE_TIME = 1 << 2;
+
+  private int accepted;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if no kind is accepted
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(IsoTemporal constraintAnnotation) throws IllegalArgumentException {
+    accepted = kindsOf(constraintAnnotation.accept());
+  }
+
+  /**
+   * Validates that the given value is a valid ISO 8601 date, local date-time or offset date-time
+   * string of an accepted kind.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          IsoTemporal.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    CharSequence temporal = (CharSequence) value;
+    int length = temporal.length();
+    int separator = IsoScanner.indexOfTimeSeparator(temporal, 0, length);
+    if (separator == length) {
+      return (accepted & DATE) != 0
+          && IsoScanner.scanDate(temporal, IsoScanner.EXTENDED_DATE) != IsoScanner.INVALID_DATE;
+    }
+    boolean offset = IsoScanner.indexOfOffset(temporal, separator + 1, length) != length;
+    if ((accepted & (offset ? OFFSET_DATE_TIME : DATE_TIME)) == 0) {
+      return false;
+    }
+    return IsoScanner.scanDateTime(temporal, 0, length, offset, IsoScanner.ANY_POLICY)
+        != IsoScanner.INVALID_DATE_TIME;
+  }
+
+  /**
+   * Combines the given kinds into flags.
+   *
+   * @param kinds the accepted kinds
+   * @return the combined flags
+   * @throws IllegalArgumentException if no kind is given
+   */
+  private static int kindsOf(IsoTemporal.Kind[] kinds) throws IllegalArgumentException {
+    if (kinds.length == 0) {
+      throw new IllegalArgumentException("accept must not be empty");
+    }
+    int flags = 0;
+    for (IsoTemporal.Kind kind : kinds) {
+      switch (kind) {
+        case DATE:
+          flags |= DATE;
+          break;
+        case DATE_TIME:
+          flags |= DATE_TIME;
+          break;
+        case OFFSET_DATE_TIME:
+          flags |= OFFSET_DATE_TIME;
+          break;
+      }
+    }
+    return flags;
+  }
+}
@@ -38,6 +38,10 @@
  * optional. A timezone offset is accepted but optional unless {@link #offsetRequired} is set to
  * {@code true}.
  *
+ * <p>The precision and the offset of accepted times can be restricted with {@link
+ * #secondsRequired()}, {@link #maxFractionDigits()} and {@link #offsetPolicy()}. These are checked
+ * while the value is scanned.
+ *
  * <p>Accepted values include:
  *
  * <ul>
@@ -73,6 +77,14 @@
  * // Require a timezone offset, e.g. "10:30:00Z"
  * &#064;IsoTime(offsetRequired = true)
  * private String meetingTime;
+ *
+ * // UTC with seconds and at most millisecond precision, e.g. "10:30:00.123Z"
+ * &#064;IsoTime(
+ *     offsetRequired = true,
+ *     secondsRequired = true,
+ *     maxFractionDigits = 3,
+ *     offsetPolicy = OffsetPolicy.UTC_ONLY)
+ * private String sampledAt;
  * </pre>
  *
  * @since 1.2.0
@@ -118,6 +130,31 @@
    */
   boolean offsetRequired() default false;
 
+  /**
+   * Returns whether the seconds must be present.
+   *
+   * @return {@code true} if values such as {@code 10:30} are rejected for lacking seconds
+   * @since 1.3.0
+   */
+  boolean secondsRequired() default false;
+
+  /**
+   * Returns the largest accepted number of fraction digits.
+   *
+   * @return a number from {@code 0}, rejecting any fraction of second including a lone decimal
+   *     point, to {@code 9}, accepting nanosecond precision
+   * @since 1.3.0
+   */
+  int maxFractionDigits() default 9;
+
+  /**
+   * Returns the timezone offsets to accept, if the value has one.
+   *
+   * @return the offset policy, {@link OffsetPolicy#ANY} by default
+   * @since 1.3.0
+   */
+  OffsetPolicy offsetPolicy() default OffsetPolicy.ANY;
+
   /**
    * Defines several {@link IsoTime} annotations on the same element.
    *
@@ -18,9 +18,6 @@
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -32,28 +29,25 @@
  */
 public class IsoTimeValidator implements ConstraintValidator<IsoTime, Object> {
 
-  private static final DateTimeFormatter TIME_WITH_OPTIONAL_OFFSET =
-      new DateTimeFormatterBuilder()
-          .append(DateTimeFormatter.ISO_LOCAL_TIME)
-          .optionalStart()
-          .appendOffsetId()
-          .optionalEnd()
-          .toFormatter();
-
-  private DateTimeFormatter formatter = TIME_WITH_OPTIONAL_OFFSET;
+  private boolean offsetRequired;
+  private int policy;
 
   /**
-   * Initializes the validator by selecting the appropriate {@link DateTimeFormatter} based on
-   * whether an offset is required.
+   * Initializes the validator with the constraint annotation attributes.
    *
    * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if {@code maxFractionDigits} is not between {@code 0} and
+   *     {@code 9}
    * @since 1.2.0
    */
   @Override
-  public void initialize(IsoTime constraintAnnotation) {
-    if (constraintAnnotation.offsetRequired()) {
-      formatter = DateTimeFormatter.ISO_OFFSET_TIME;
-    }
+  public void initialize(IsoTime constraintAnnotation) throws IllegalArgumentException {
+    offsetRequired = constraintAnnotation.offsetRequired();
+    policy =
+        IsoScanner.policy(
+            constraintAnnotation.secondsRequired(),
+            constraintAnnotation.maxFractionDigits(),
+            constraintAnnotation.offsetPolicy());
   }
 
   /**
@@ -84,11 +78,6 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
               + value.getClass().getName()
               + " type");
     }
-    try {
-      formatter.parse((CharSequence) value);
-      return true;
-    } catch (DateTimeParseException e) {
-      return false;
-    }
+    return IsoScanner.isTime((CharSequence) value, offsetRequired, policy);
   }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.util.Arrays;
+
+/**
+ * Compiled list of RFC 4647 basic language ranges.
+ *
+ * <p>A tag matches a range if it equals the range, or if it starts with the range followed by a
+ * {@code -}, comparing case-insensitively. The range {@code *} matches every tag. Ranges are
+ * compiled into a trie over lowercase ASCII letters, digits and {@code -}, so matching is a single
+ * walk over the tag, without building a lowercase copy of it.
+ */
+final class LanguageRanges {
+
+  /** Size of the trie alphabet: 26 letters, 10 digits and {@code -}. */
+  private static final int ALPHABET = 37;
+
+  private static final int HYPHEN = 36;
+
+  private final int[] transitions;
+  private final boolean[] terminal;
+  private final boolean wildcard;
+
+  private LanguageRanges(int[] transitions, boolean[] terminal, boolean wildcard) {
+    this.transitions = transitions;
+    this.terminal = terminal;
+    this.wildcard = wildcard;
+  }
+
+  /**
+   * Compiles the given basic language ranges.
+   *
+   * @param ranges the language ranges, such as {@code en}, {@code en-GB} or {@code *}
+   * @return the compiled ranges
+   * @throws IllegalArgumentException if any of the ranges is not a valid basic language range
+   */
+  static LanguageRanges compile(String... ranges) throws IllegalArgumentException {
+    int capacity = 1;
+    for (String range : ranges) {
+      capacity += range.length();
+    }
+    int[] transitions = new int[capacity * ALPHABET];
+    boolean[] terminal = new boolean[capacity];
+    boolean wildcard = false;
+    int nodes = 1;
+    for (String range : ranges) {
+      if (range.equals("*")) {
+        wildcard = true;
+        continue;
+      }
+      requireBasicRange(range);
+      int node = 0;
+      for (int i = 0; i < range.length(); i++) {
+        int index = node * ALPHABET + symbolOf(range.charAt(i));
+        if (transitions[index] == 0) {
+          transitions[index] = nodes++;
+        }
+        node = transitions[index];
+      }
+      terminal[node] = true;
+    }
+    return new LanguageRanges(
+        Arrays.copyOf(transitions, nodes * ALPHABET), Arrays.copyOf(terminal, nodes), wildcard);
+  }
+
+  /**
+   * Checks whether the given tag matches any of the ranges.
+   *
+   * @param tag the language tag to match
+   * @return {@code true} if the tag matches at least one range
+   */
+  boolean matches(CharSequence tag) {
+    if (wildcard) {
+      return true;
+    }
+    int node = 0;
+    for (int i = 0; i < tag.length(); i++) {
+      int symbol = symbolOf(tag.charAt(i));
+      if (symbol < 0) {
+        return false;
+      }
+      if (symbol == HYPHEN && terminal[node]) {
+        return true;
+      }
+      node = transitions[node * ALPHABET + symbol];
+      if (node == 0) {
+        return false;
+      }
+    }
+    return terminal[node];
+  }
+
+  private static void requireBasicRange(String range) throws IllegalArgumentException {
+    int start = 0;
+    boolean first = true;
+    while (true) {
+      int end = range.indexOf('-', start);
+      if (end < 0) {
+        end = range.length();
+      }
+      int length = end - start;
+      if (length < 1 || length > 8) {
+        throw invalidRange(range);
+      }
+      for (int i = start; i < end; i++) {
+        int symbol = symbolOf(range.charAt(i));
+        if (symbol < 0 || (first && symbol >= 26)) {
+          throw invalidRange(range);
+        }
+      }
+      if (end == range.length()) {
+        return;
+      }
+      start = end + 1;
+      first = false;
+    }
+  }
+
+  private static IllegalArgumentException invalidRange(String range) {
+    return new IllegalArgumentException("'" + range + "' is not a valid basic language range");
+  }
+
+  /** Maps an ASCII letter, digit or {@code -} to its trie symbol, or returns {@code -1}. */
+  private static int symbolOf(char ch) {
+    if (ch >= 'a' && ch <= 'z') {
+      return ch - 'a';
+    }
+    if (ch >= 'A' && ch <= 'Z') {
+      return ch - 'A';
+    }
+    if (ch >= '0' && ch <= '9') {
+      return ch - '0' + 26;
+    }
+    return ch == '-' ? HYPHEN : -1;
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lookups of subtags registered in the IANA Language Subtag Registry.
+ *
+ * <p>The subtags are loaded lazily from the embedded {@value #RESOURCE} snapshot into packed
+ * tables. Languages and regions are kept in bitmaps indexed by the subtag itself, while scripts and
+ * variants are kept in sorted arrays of packed values, so the whole registry takes a few kilobytes
+ * of heap. All lookups are case-insensitive, work on a range of a {@code CharSequence} and do not
+ * allocate.
+ */
+final class LanguageSubtagRegistry {
+
+  /** Name of the embedded resource with the registered subtags. */
+  static final String RESOURCE = "language-subtag-registry.txt";
+
+  private static final int TWO_LETTERS = 26 * 26;
+  private static final int THREE_LETTERS = 26 * 26 * 26;
+  private static final int THREE_DIGITS = 1000;
+  private static final int ALPHANUMERIC_RADIX = 37;
+
+  private LanguageSubtagRegistry() {}
+
+  /**
+   * Checks whether the given range is a registered language subtag.
+   *
+   * @param value the value to check
+   * @param from the start of the subtag, inclusive
+   * @param to the end of the subtag, exclusive
+   * @return {@code true} if the subtag is a registered two- or three-letter language
+   */
+  static boolean isLanguage(CharSequence value, int from, int to) {
+    int length = to - from;
+    if (length == 2) {
+      return CountryCodes.contains(Tables.INSTANCE.languages, letters(value, from, to));
+    }
+    if (length == 3) {
+      return CountryCodes.contains(
+          Tables.INSTANCE.languages, TWO_LETTERS + letters(value, from, to));
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the given range is a registered script subtag.
+   *
+   * @param value the value to check
+   * @param from the start of the subtag, inclusive
+   * @param to the end of the subtag, exclusive
+   * @return {@code true} if the subtag is a registered four-letter script
+   */
+  static boolean isScript(CharSequence value, int from, int to) {
+    return to - from == 4
+        && Arrays.binarySearch(Tables.INSTANCE.scripts, letters(value, from, to)) >= 0;
+  }
+
+  /**
+   * Checks whether the given range is a registered region subtag.
+   *
+   * @param value the value to check
+   * @param from the start of the subtag, inclusive
+   * @param to the end of the subtag, exclusive
+   * @return {@code true} if the subtag is a registered two-letter or three-digit region
+   */
+  static boolean isRegion(CharSequence value, int from, int to) {
+    int length = to - from;
+    if (length == 2) {
+      return CountryCodes.contains(Tables.INSTANCE.regions, letters(value, from, to));
+    }
+    if (length == 3) {
+      return CountryCodes.contains(Tables.INSTANCE.regions, TWO_LETTERS + digits(value, from, to));
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the given range is a registered variant subtag.
+   *
+   * @param value the value to check
+   * @param from the start of the subtag, inclusive
+   * @param to the end of the subtag, exclusive
+   * @return {@code true} if the subtag is a registered variant
+   */
+  static boolean isVariant(CharSequence value, int from, int to) {
+    int length = to - from;
+    return length >= 4
+        && length <= 8
+        && Arrays.binarySearch(Tables.INSTANCE.variants, alphanumerics(value, from, to)) >= 0;
+  }
+
+  /** Packs ASCII letters into a base-26 number, or returns {@code -1} for any other character. */
+  private static int letters(CharSequence value, int from, int to) {
+    int packed = 0;
+    for (int i = from; i < to; i++) {
+      char ch = value.charAt(i);
+      int letter;
+      if (ch >= 'a' && ch <= 'z') {
+        letter = ch - 'a';
+      } else if (ch >= 'A' && ch <= 'Z') {
+        letter = ch - 'A';
+      } else {
+        return -1;
+      }
+      packed = packed * 26 + letter;
+    }
+    return packed;
+  }
+
+  /** Parses ASCII digits into a number, or returns {@code -1} for any other character. */
+  private static int digits(CharSequence value, int from, int to) {
+    int number = 0;
+    for (int i = from; i < to; i++) {
+      char ch = value.charAt(i);
+      if (ch < '0' || ch > '9') {
+        return -1;
+      }
+      number = number * 10 + (ch - '0');
+    }
+    return number;
+  }
+
+  /** Packs ASCII alphanumerics into a base-37 number, or returns {@code -1} for other chars. */
+  private static long alphanumerics(CharSequence value, int from, int to) {
+    long packed = 0;
+    for (int i = from; i < to; i++) {
+      char ch = value.charAt(i);
+      int digit;
+      if (ch >= '0' && ch <= '9') {
+        digit = ch - '0' + 1;
+      } else if (ch >= 'a' && ch <= 'z') {
+        digit = ch - 'a' + 11;
+      } else if (ch >= 'A' && ch <= 'Z') {
+        digit = ch - 'A' + 11;
+      } else {
+        return -1;
+      }
+      packed = packed * ALPHANUMERIC_RADIX + digit;
+    }
+    return packed;
+  }
+
+  private static final class Tables {
+
+    private static final Tables INSTANCE = load();
+
+    private final long[] languages = new long[(TWO_LETTERS + THREE_LETTERS + 63) / 64];
+    private final long[] regions = new long[(TWO_LETTERS + THREE_DIGITS + 63) / 64];
+    private int[] scripts = new int[0];
+    private long[] variants = new long[0];
+
+    private static Tables load() {
+      Tables tables = new Tables();
+      int[] scripts = new int[256];
+      int scriptCount = 0;
+      long[] variants = new long[256];
+      int variantCount = 0;
+      for (String line : readLines()) {
+        String[] tokens = line.split(" ", -1);
+        for (int i = 1; i < tokens.length; i++) {
+          String subtag = tokens[i];
+          switch (tokens[0]) {
+            case "language":
+              tables.addLanguage(subtag);
+              break;
+            case "script":
+              if (scriptCount == scripts.length) {
+                scripts = Arrays.copyOf(scripts, scripts.length * 2);
+              }
+              scripts[scriptCount++] = letters(subtag, 0, subtag.length());
+              break;
+            case "region":
+              tables.addRegion(subtag);
+              break;
+            case "variant":
+              if (variantCount == variants.length) {
+                variants = Arrays.copyOf(variants, variants.length * 2);
+              }
+              variants[variantCount++] = alphanumerics(subtag, 0, subtag.length());
+              break;
+            default:
+              throw new IllegalStateException("Unknown subtag type in " + RESOURCE + ": " + line);
+          }
+        }
+      }
+      tables.scripts = Arrays.copyOf(scripts, scriptCount);
+      Arrays.sort(tables.scripts);
+      tables.variants = Arrays.copyOf(variants, variantCount);
+      Arrays.sort(tables.variants);
+      return tables;
+    }
+
+    private void addLanguage(String subtag) {
+      int offset = subtag.length() == 3 ? TWO_LETTERS : 0;
+      CountryCodes.set(languages, offset + letters(subtag, 0, subtag.length()));
+    }
+
+    private void addRegion(String subtag) {
+      if (subtag.length() == 3) {
+        CountryCodes.set(regions, TWO_LETTERS + digits(subtag, 0, subtag.length()));
+      } else {
+        CountryCodes.set(regions, letters(subtag, 0, subtag.length()));
+      }
+    }
+
+    private static String[] readLines() {
+      InputStream stream = LanguageSubtagRegistry.class.getResourceAsStream(RESOURCE);
+      if (stream == null) {
+        throw new IllegalStateException("Missing " + RESOURCE + " resource");
+      }
+      try (BufferedReader reader =
+          new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+        return reader
+            .lines()
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .toArray(String[]::new);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -35,8 +35,14 @@
  * Annotation for validating that a {@code CharSequence} value is a syntactically valid BCP 47
  * language tag.
  *
- * <p>Syntactic validity is checked per BCP 47; individual subtag values are not verified against
- * the IANA language subtag registry.
+ * <p>By default syntactic validity is checked per BCP 47; individual subtag values are not verified
+ * against the IANA language subtag registry. With {@link #conformance()} set to {@link
+ * Conformance#REGISTERED}, the language, extlang, script, region and variant subtags must also be
+ * present in an embedded snapshot of the registry, so results do not depend on the JDK version.
+ *
+ * <p>Accepted tags can be further restricted with {@link #allowed()}, a list of RFC 4647 basic
+ * language ranges. A tag matches a range if it is equal to it or starts with it followed by a
+ * {@code -}, ignoring case, so {@code en} matches {@code en-US} and {@code en-GB-u-ca-gregory}.
  *
  * <p>Accepted values include:
  *
@@ -59,15 +65,23 @@
  *
  * <ul>
  *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ *   <li>{@code Locale} - its language, script, country and variant must be valid subtags, so the
+ *       root locale and locales created with malformed fields are rejected
  * </ul>
  *
  * <p>{@code null} elements are considered valid.
  *
- * <p>Example usage:
+ * <p>Example usages:
  *
  * <pre>
  * &#064;LanguageTag
  * private String locale;
+ *
+ * &#064;LanguageTag(conformance = LanguageTag.Conformance.REGISTERED)
+ * private String registeredLocale;
+ *
+ * &#064;LanguageTag(allowed = {"en", "en-GB", "pl"})
+ * private String supportedLocale;
  * </pre>
  *
  * @since 1.2.0
@@ -104,6 +118,43 @@
    */
   Class<? extends Payload>[] payload() default {};
 
+  /**
+   * Returns the conformance level required from the language tag.
+   *
+   * @return the required conformance level, {@link Conformance#WELL_FORMED} by default
+   * @since 1.3.0
+   */
+  Conformance conformance() default Conformance.WELL_FORMED;
+
+  /**
+   * Returns the RFC 4647 basic language ranges that accepted tags must match.
+   *
+   * <p>Each range is either {@code *} or a sequence of subtags such as {@code en} or {@code en-GB}.
+   * If empty, any tag of the required conformance level is accepted.
+   *
+   * @return the accepted language ranges, empty by default
+   * @since 1.3.0
+   */
+  String[] allowed() default {};
+
+  /**
+   * Conformance levels of a language tag, following the well-formed and valid levels of BCP 47.
+   *
+   * @since 1.3.0
+   */
+  enum Conformance {
+
+    /** The tag follows the BCP 47 syntax, regardless of the values of its subtags. */
+    WELL_FORMED,
+
+    /**
+     * The tag is well-formed and its language, extlang, script, region and variant subtags are
+     * registered in the IANA language subtag registry. Extension and private use subtags are only
+     * checked for well-formedness, and variant prefixes are not enforced.
+     */
+    REGISTERED
+  }
+
   /**
    * Defines several {@link LanguageTag} annotations on the same element.
    *
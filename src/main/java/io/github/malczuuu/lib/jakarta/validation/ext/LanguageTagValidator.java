@@ -18,26 +18,49 @@
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.IllformedLocaleException;
 import java.util.Locale;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Validator for the {@link LanguageTag} annotation.
  *
- * <p>Checks if the value of the annotated element is a syntactically valid BCP 47 language tag.
+ * <p>Checks if the value of the annotated element is a well-formed BCP 47 language tag and, with
+ * {@link LanguageTag.Conformance#REGISTERED}, that its subtags are registered in the IANA language
+ * subtag registry.
  *
  * @since 1.2.0
  */
 public class LanguageTagValidator implements ConstraintValidator<LanguageTag, Object> {
 
+  private boolean registered;
+  private @Nullable LanguageRanges allowed;
+  private final LocaleCache localeCache = new LocaleCache();
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @throws IllegalArgumentException if any of the allowed ranges is not a basic language range
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(LanguageTag constraintAnnotation) throws IllegalArgumentException {
+    registered = constraintAnnotation.conformance() == LanguageTag.Conformance.REGISTERED;
+    String[] ranges = constraintAnnotation.allowed();
+    allowed = ranges.length > 0 ? LanguageRanges.compile(ranges) : null;
+  }
+
   /**
-   * Validates that the given value is a syntactically valid BCP 47 language tag.
+   * Validates that the given value is a well-formed BCP 47 language tag, with subtags registered in
+   * the IANA language subtag registry if the conformance level is {@link
+   * LanguageTag.Conformance#REGISTERED}, and that it matches one of the allowed language ranges, if
+   * any.
    *
    * <p>Supported types are:
    *
    * <ul>
    *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   *   <li>{@code Locale}
    * </ul>
    *
    * @param value the value to validate
@@ -52,6 +75,9 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
     if (value == null) {
       return true;
     }
+    if (value instanceof Locale) {
+      return isValidLocale((Locale) value);
+    }
     if (!(value instanceof CharSequence)) {
       throw new IllegalArgumentException(
           LanguageTag.class.getSimpleName()
@@ -59,15 +85,28 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
               + value.getClass().getName()
               + " type");
     }
-    String str = value.toString();
-    if (str.isEmpty()) {
+    CharSequence tag = (CharSequence) value;
+    if (registered ? !LanguageTags.isRegistered(tag) : !LanguageTags.isWellFormed(tag)) {
       return false;
     }
-    try {
-      new Locale.Builder().setLanguageTag(str);
-      return true;
-    } catch (IllformedLocaleException e) {
-      return false;
+    return allowed == null || allowed.matches(tag);
+  }
+
+  /**
+   * Validates the language, script, country and variant fields of the given locale, using the
+   * memoized result if the locale was already validated.
+   *
+   * @param locale the locale to validate
+   * @return {@code true} if the locale is valid, {@code false} otherwise
+   */
+  private boolean isValidLocale(Locale locale) {
+    Boolean cached = localeCache.get(locale);
+    if (cached != null) {
+      return cached;
     }
+    boolean valid =
+        LanguageTags.isValid(locale, registered)
+            && (allowed == null || allowed.matches(locale.toLanguageTag()));
+    return localeCache.put(locale, valid);
   }
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.util.Locale;
+
+/**
+ * Well-formedness and validity scanner for BCP 47 (RFC 5646) language tags.
+ *
+ * <p>The scanner accepts exactly the tags accepted by {@link
+ * java.util.Locale.Builder#setLanguageTag(String)}, but works on any {@code CharSequence} in a
+ * single pass, without allocating and without throwing exceptions for ill-formed tags.
+ *
+ * <p>Subtags are matched greedily in the order of the grammar: language, up to three extlangs,
+ * script, region, variants, extensions and private use. Legacy (grandfathered) tags registered
+ * during the RFC 3066 era are accepted as a whole.
+ *
+ * <p>Validity additionally requires every language, extlang, script, region and variant subtag to
+ * be registered in {@link LanguageSubtagRegistry}. Extensions and private use subtags are only
+ * checked for well-formedness.
+ */
+final class LanguageTags {
+
+  /** Legacy tags from RFC 5646, in lowercase. */
+  private static final String[] LEGACY = {
+    "art-lojban",
+    "cel-gaulish",
+    "en-gb-oed",
+    "i-ami",
+    "i-bnn",
+    "i-default",
+    "i-enochian",
+    "i-hak",
+    "i-klingon",
+    "i-lux",
+    "i-mingo",
+    "i-navajo",
+    "i-pwn",
+    "i-tao",
+    "i-tay",
+    "i-tsu",
+    "no-bok",
+    "no-nyn",
+    "sgn-be-fr",
+    "sgn-be-nl",
+    "sgn-ch-de",
+    "zh-guoyu",
+    "zh-hakka",
+    "zh-min",
+    "zh-min-nan",
+    "zh-xiang"
+  };
+
+  private static final int START = 0;
+  private static final int LANGUAGE = 1;
+  private static final int SCRIPT = 2;
+  private static final int REGION = 3;
+  private static final int VARIANT = 4;
+  private static final int EXTENSION_START = 5;
+  private static final int EXTENSION = 6;
+  private static final int PRIVATE_USE_START = 7;
+  private static final int PRIVATE_USE = 8;
+  private static final int INVALID = -1;
+
+  private LanguageTags() {}
+
+  /**
+   * Checks whether the given value is a well-formed language tag.
+   *
+   * @param value the value to check
+   * @return {@code true} if the whole value is a well-formed language tag
+   */
+  static boolean isWellFormed(CharSequence value) {
+    return isWellFormed(value, 0, value.length());
+  }
+
+  /**
+   * Checks whether the given range of a value is a well-formed language tag.
+   *
+   * @param value the value to check
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return {@code true} if the range is a well-formed language tag
+   */
+  static boolean isWellFormed(CharSequence value, int from, int to) {
+    return scan(value, from, to, false);
+  }
+
+  /**
+   * Checks whether the given value is a well-formed language tag built only of registered subtags.
+   *
+   * @param value the value to check
+   * @return {@code true} if the whole value is a valid language tag
+   */
+  static boolean isRegistered(CharSequence value) {
+    return isRegistered(value, 0, value.length());
+  }
+
+  /**
+   * Checks whether the given range of a value is a well-formed language tag built only of
+   * registered subtags.
+   *
+   * @param value the value to check
+   * @param from the start of the range, inclusive
+   * @param to the end of the range, exclusive
+   * @return {@code true} if the range is a valid language tag
+   */
+  static boolean isRegistered(CharSequence value, int from, int to) {
+    return scan(value, from, to, true);
+  }
+
+  /**
+   * Checks whether the language, script, country and variant fields of the given locale are
+   * well-formed subtags, optionally also requiring them to be registered.
+   *
+   * <p>The language is required, so the root locale is rejected. Each of the variants separated by
+   * {@code _} or {@code -} is checked separately. Extensions are not checked, as {@link Locale}
+   * only accepts well-formed ones.
+   *
+   * @param locale the locale to check
+   * @param registered whether the subtags must also be registered
+   * @return {@code true} if the locale fields form a valid language tag
+   */
+  static boolean isValid(Locale locale, boolean registered) {
+    String language = locale.getLanguage();
+    if (!isSubtag(language, 0, language.length(), START, LANGUAGE, registered)) {
+      return false;
+    }
+    String script = locale.getScript();
+    if (!script.isEmpty() && !isSubtag(script, 0, script.length(), LANGUAGE, SCRIPT, registered)) {
+      return false;
+    }
+    String country = locale.getCountry();
+    if (!country.isEmpty() && !isSubtag(country, 0, country.length(), SCRIPT, REGION, registered)) {
+      return false;
+    }
+    String variant = locale.getVariant();
+    int start = 0;
+    for (int i = 0; i < variant.length(); i++) {
+      char ch = variant.charAt(i);
+      if (ch == '_' || ch == '-') {
+        if (!isSubtag(variant, start, i, REGION, VARIANT, registered)) {
+          return false;
+        }
+        start = i + 1;
+      }
+    }
+    return variant.isEmpty()
+        || isSubtag(variant, start, variant.length(), REGION, VARIANT, registered);
+  }
+
+  /**
+   * Checks whether the given range is a single subtag that moves the scanner from {@code state} to
+   * {@code expected}.
+   */
+  private static boolean isSubtag(
+      CharSequence value, int from, int to, int state, int expected, boolean registered) {
+    if (from == to) {
+      return false;
+    }
+    int letters = 0;
+    int digits = 0;
+    for (int i = from; i < to; i++) {
+      char ch = value.charAt(i);
+      if (isLetter(ch)) {
+        letters++;
+      } else if (ch >= '0' && ch <= '9') {
+        digits++;
+      } else {
+        return false;
+      }
+    }
+    if (nextState(state, value.charAt(from), to - from, letters, digits) != expected) {
+      return false;
+    }
+    return !registered || isRegisteredSubtag(expected, value, from, to);
+  }
+
+  private static boolean scan(CharSequence value, int from, int to, boolean registered) {
+    if (isLegacy(value, from, to)) {
+      return true;
+    }
+    int state = START;
+    int extlangs = 0;
+    int start = from;
+    while (true) {
+      int end = start;
+      int letters = 0;
+      int digits = 0;
+      while (end < to) {
+        char ch = value.charAt(end);
+        if (ch == '-') {
+          break;
+        } else if (isLetter(ch)) {
+          letters++;
+        } else if (ch >= '0' && ch <= '9') {
+          digits++;
+        } else {
+          return false;
+        }
+        end++;
+      }
+
+      int length = end - start;
+      if (length == 0) {
+        return false;
+      }
+      if (state == LANGUAGE && extlangs < 3 && length == 3 && letters == 3) {
+        extlangs++;
+      } else {
+        state = nextState(state, value.charAt(start), length, letters, digits);
+        if (state == INVALID) {
+          return false;
+        }
+      }
+      if (registered && !isRegisteredSubtag(state, value, start, end)) {
+        return false;
+      }
+
+      if (end == to) {
+        break;
+      }
+      start = end + 1;
+    }
+    return state != EXTENSION_START && state != PRIVATE_USE_START;
+  }
+
+  /**
+   * Computes the scanner state after consuming a subtag (other than an extlang).
+   *
+   * @param state the current state
+   * @param first the first character of the subtag
+   * @param length the length of the subtag, greater than zero
+   * @param letters the number of ASCII letters in the subtag
+   * @param digits the number of ASCII digits in the subtag
+   * @return the next state, or {@link #INVALID} if the subtag is not allowed in the current state
+   */
+  private static int nextState(int state, char first, int length, int letters, int digits) {
+    if (length > 8) {
+      return INVALID;
+    }
+    switch (state) {
+      case START:
+        if (length >= 2 && letters == length) {
+          return LANGUAGE;
+        }
+        return isPrivateUsePrefix(first, length) ? PRIVATE_USE_START : INVALID;
+      case EXTENSION_START:
+        return length >= 2 ? EXTENSION : INVALID;
+      case PRIVATE_USE_START:
+      case PRIVATE_USE:
+        return PRIVATE_USE;
+      default:
+        break;
+    }
+
+    if (state < SCRIPT && length == 4 && letters == 4) {
+      return SCRIPT;
+    }
+    if (state < REGION && ((length == 2 && letters == 2) || (length == 3 && digits == 3))) {
+      return REGION;
+    }
+    if (state <= VARIANT && (length >= 5 || (length == 4 && first >= '0' && first <= '9'))) {
+      return VARIANT;
+    }
+    if (state == EXTENSION && length >= 2) {
+      return EXTENSION;
+    }
+    if (isPrivateUsePrefix(first, length)) {
+      return PRIVATE_USE_START;
+    }
+    if (length == 1 && letters == 1) {
+      return EXTENSION_START;
+    }
+    return INVALID;
+  }
+
+  /**
+   * Checks the subtag that brought the scanner into the given state against the registry. Extlangs
+   * are registered as languages, so they are looked up while still in the {@link #LANGUAGE} state.
+   */
+  private static boolean isRegisteredSubtag(int state, CharSequence value, int from, int to) {
+    switch (state) {
+      case LANGUAGE:
+        return LanguageSubtagRegistry.isLanguage(value, from, to);
+      case SCRIPT:
+        return LanguageSubtagRegistry.isScript(value, from, to);
+      case REGION:
+        return LanguageSubtagRegistry.isRegion(value, from, to);
+      case VARIANT:
+        return LanguageSubtagRegistry.isVariant(value, from, to);
+      default:
+        return true;
+    }
+  }
+
+  private static boolean isPrivateUsePrefix(char first, int length) {
+    return length == 1 && (first == 'x' || first == 'X');
+  }
+
+  private static boolean isLegacy(CharSequence value, int from, int to) {
+    int length = to - from;
+    for (String legacy : LEGACY) {
+      if (legacy.length() == length && equalsIgnoreCase(legacy, value, from)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean equalsIgnoreCase(String lowercase, CharSequence value, int from) {
+    for (int i = 0; i < lowercase.length(); i++) {
+      char ch = value.charAt(from + i);
+      if (ch >= 'A' && ch <= 'Z') {
+        ch = (char) (ch + ('a' - 'A'));
+      }
+      if (ch != lowercase.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLetter(char ch) {
+    return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+  }
+}
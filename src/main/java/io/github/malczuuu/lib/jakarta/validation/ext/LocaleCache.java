@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Small, fixed-size cache of validation results for {@link Locale} values.
+ *
+ * <p>Applications use a handful of distinct locales, usually the canonical instances shared by the
+ * JDK, so results are kept in a direct-mapped table indexed by {@link Locale#hashCode()}, which the
+ * JDK computes once per instance. A colliding locale replaces the previous entry. Entries are
+ * immutable, so the table is shared between threads without locking.
+ */
+final class LocaleCache {
+
+  private static final int SIZE = 32;
+
+  private final AtomicReferenceArray<@Nullable Entry> entries = new AtomicReferenceArray<>(SIZE);
+
+  /**
+   * Returns the cached result for the given locale.
+   *
+   * @param locale the locale to look up
+   * @return the cached result, or {@code null} if the locale is not cached
+   */
+  @Nullable Boolean get(Locale locale) {
+    Entry entry = entries.get(indexOf(locale));
+    if (entry == null || !entry.locale.equals(locale)) {
+      return null;
+    }
+    return entry.valid;
+  }
+
+  /**
+   * Caches the result for the given locale.
+   *
+   * @param locale the validated locale
+   * @param valid the validation result
+   * @return the validation result
+   */
+  boolean put(Locale locale, boolean valid) {
+    entries.set(indexOf(locale), new Entry(locale, valid));
+    return valid;
+  }
+
+  private static int indexOf(Locale locale) {
+    int hash = locale.hashCode();
+    return (hash ^ (hash >>> 16)) & (SIZE - 1);
+  }
+
+  private static final class Entry {
+
+    private final Locale locale;
+    private final boolean valid;
+
+    private Entry(Locale locale, boolean valid) {
+      this.locale = locale;
+      this.valid = valid;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+/**
+ * Policies restricting the timezone offset of values validated with {@link IsoTime} and {@link
+ * IsoDateTime}.
+ *
+ * <p>A policy only applies to values that have an offset. Values without an offset are accepted
+ * unless an offset is required by the annotation.
+ *
+ * @since 1.3.0
+ */
+public enum OffsetPolicy {
+
+  /** Any valid offset is accepted. */
+  ANY,
+
+  /** Only a zero offset is accepted, i.e. {@code Z} or its numeric form {@code +00:00}. */
+  UTC_ONLY,
+
+  /** Only an offset other than zero is accepted, e.g. {@code +05:30} but not {@code Z}. */
+  NON_ZERO
+}
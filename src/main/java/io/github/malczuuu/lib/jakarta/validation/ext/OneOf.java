@@ -118,6 +118,10 @@
   /**
    * Returns whether to ignore case when validating {@code String} or {@code Enum} values.
    *
+   * <p>Values are compared by the simple case folding of each character, as in {@link
+   * String#equalsIgnoreCase(String)}, so {@code ς} matches {@code Σ} but {@code ß} does not match
+   * {@code SS}.
+   *
    * @return whether to ignore case when validating {@code String} or {@code Enum} values.
    * @since 1.0.0
    */
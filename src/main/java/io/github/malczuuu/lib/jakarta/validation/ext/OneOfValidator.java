@@ -16,13 +16,12 @@
 
 package io.github.malczuuu.lib.jakarta.validation.ext;
 
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toList;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import java.util.Arrays;
-import java.util.Locale;
-import java.util.Set;
+import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -34,8 +33,7 @@
  */
 public class OneOfValidator implements ConstraintValidator<OneOf, Object> {
 
-  private Set<String> values = Set.of();
-  private Set<String> valuesIgnoreCase = Set.of();
+  private CharSequenceSet values = CharSequenceSet.of(List.of());
   private boolean ignoreCase = false;
 
   /**
@@ -47,17 +45,18 @@ public class OneOfValidator implements ConstraintValidator<OneOf, Object> {
    */
   @Override
   public void initialize(OneOf constraintAnnotation) {
+    List<String> allowed;
     if (constraintAnnotation.values().length > 0) {
-      values = Set.of(constraintAnnotation.values());
+      allowed = List.of(constraintAnnotation.values());
     } else if (constraintAnnotation.enumType().isEnum()) {
-      values =
+      allowed =
           Arrays.stream(constraintAnnotation.enumType().getEnumConstants())
               .map(c -> ((Enum<?>) c).name())
-              .collect(toSet());
+              .collect(toList());
     } else {
-      values = Set.of();
+      allowed = List.of();
     }
-    valuesIgnoreCase = values.stream().map(s -> s.toLowerCase(Locale.ROOT)).collect(toSet());
+    values = CharSequenceSet.of(allowed);
     ignoreCase = constraintAnnotation.ignoreCase();
   }
 
@@ -86,22 +85,26 @@ public boolean isValid(@Nullable Object value, ConstraintValidatorContext contex
       return true;
     }
 
-    String valueAsString = toValidableString(value);
+    CharSequence valueAsChars = toValidableChars(value);
 
-    return ignoreCase
-        ? valuesIgnoreCase.contains(valueAsString.toLowerCase(Locale.ROOT))
-        : values.contains(valueAsString);
+    return ignoreCase ? values.containsIgnoreCase(valueAsChars) : values.contains(valueAsChars);
   }
 
   /**
-   * Converts the given value to a String suitable for validation.
+   * Converts the given value to characters suitable for validation.
+   *
+   * <p>A {@code CharSequence} is returned as is, so it is looked up by content without being
+   * copied.
    *
    * @param value the value to convert
-   * @return the string representation of the value
+   * @return the characters of the value
    * @throws IllegalArgumentException if the value type is not supported
    */
-  private String toValidableString(Object value) throws IllegalArgumentException {
-    if (value instanceof CharSequence || value instanceof Number || value instanceof Character) {
+  private CharSequence toValidableChars(Object value) throws IllegalArgumentException {
+    if (value instanceof CharSequence) {
+      return (CharSequence) value;
+    }
+    if (value instanceof Number || value instanceof Character) {
       return value.toString();
     }
     if (value instanceof Enum<?>) {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Source of the present for the {@code past} and {@code future} checks of the ISO validators.
+ *
+ * <p>The present is read from the {@link ClockProvider} of the validation context, so it can be
+ * replaced for tests or per validator factory. A reading may be reused for a configured number of
+ * milliseconds, measured with {@link System#nanoTime()}, so that validations within that window
+ * neither consult the clock provider nor convert the instant to the time zone of the clock.
+ */
+final class PresentClock {
+
+  private static final long SECONDS_PER_DAY = 86_400L;
+
+  private final boolean past;
+  private final boolean orPresent;
+  private final long cacheNanos;
+  private volatile @Nullable Reading reading;
+
+  /**
+   * Creates a source of the present for the given annotation attributes.
+   *
+   * @param past whether values must be in the past
+   * @param future whether values must be in the future
+   * @param orPresent whether values equal to the present are also accepted
+   * @param cacheMillis how long a reading of the clock is reused, {@code 0} to read it every time
+   * @return the source of the present, or {@code null} if neither check is enabled
+   * @throws IllegalArgumentException if both checks are enabled or {@code cacheMillis} is negative
+   */
+  static @Nullable PresentClock of(
+      boolean past, boolean future, boolean orPresent, long cacheMillis)
+      throws IllegalArgumentException {
+    if (past && future) {
+      throw new IllegalArgumentException("past and future cannot both be set");
+    }
+    return past || future ? new PresentClock(past, orPresent, cacheMillis) : null;
+  }
+
+  /**
+   * Creates a source of the present.
+   *
+   * @param past whether values must be in the past, or in the future otherwise
+   * @param orPresent whether values equal to the present are also accepted
+   * @param cacheMillis how long a reading of the clock is reused, {@code 0} to read it every time
+   * @throws IllegalArgumentException if {@code cacheMillis} is negative
+   */
+  private PresentClock(boolean past, boolean orPresent, long cacheMillis)
+      throws IllegalArgumentException {
+    if (cacheMillis < 0) {
+      throw new IllegalArgumentException(
+          "clockCacheMillis must not be negative, got " + cacheMillis);
+    }
+    this.past = past;
+    this.orPresent = orPresent;
+    this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(cacheMillis);
+  }
+
+  /**
+   * Checks whether a value compared to the present is on the required side of it.
+   *
+   * @param comparison the sign of the comparison of the value to the present
+   * @return {@code true} if the value is accepted
+   */
+  boolean accepts(int comparison) {
+    if (comparison == 0) {
+      return orPresent;
+    }
+    return past == comparison < 0;
+  }
+
+  /**
+   * Returns the present, reusing the previous reading if it is recent enough.
+   *
+   * @param context the context providing the clock
+   * @return the present
+   */
+  Reading read(ConstraintValidatorContext context) {
+    if (cacheNanos == 0) {
+      return Reading.of(context.getClockProvider().getClock(), 0L);
+    }
+    long nanoTime = System.nanoTime();
+    Reading current = reading;
+    if (current == null || nanoTime - current.nanoTime >= cacheNanos) {
+      current = Reading.of(context.getClockProvider().getClock(), nanoTime);
+      reading = current;
+    }
+    return current;
+  }
+
+  /** A reading of the clock, both as an instant and as a local date-time in the clock zone. */
+  static final class Reading {
+
+    private final long nanoTime;
+    private final long epochSecond;
+    private final int nano;
+    private final long localEpochSecond;
+
+    private Reading(long nanoTime, long epochSecond, int nano, long localEpochSecond) {
+      this.nanoTime = nanoTime;
+      this.epochSecond = epochSecond;
+      this.nano = nano;
+      this.localEpochSecond = localEpochSecond;
+    }
+
+    private static Reading of(Clock clock, long nanoTime) {
+      Instant now = clock.instant();
+      long epochSecond = now.getEpochSecond();
+      int offset = clock.getZone().getRules().getOffset(now).getTotalSeconds();
+      return new Reading(nanoTime, epochSecond, now.getNano(), epochSecond + offset);
+    }
+
+    /**
+     * Returns the current date in the clock zone.
+     *
+     * @return the current epoch day
+     */
+    long localEpochDay() {
+      return Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+    }
+
+    /**
+     * Returns the current local date-time in the clock zone, without the fraction of second.
+     *
+     * @return the seconds since {@code 1970-01-01T00:00}
+     */
+    long localEpochSecond() {
+      return localEpochSecond;
+    }
+
+    /**
+     * Returns the current instant, without the fraction of second.
+     *
+     * @return the seconds since the epoch
+     */
+    long epochSecond() {
+      return epochSecond;
+    }
+
+    /**
+     * Returns the fraction of second of the current instant.
+     *
+     * @return the nanosecond of second
+     */
+    int nano() {
+      return nano;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating that a {@code CharSequence} value is a time zone region ID known to the
+ * JDK (e.g. {@code Europe/Warsaw}, {@code America/New_York}, {@code UTC}).
+ *
+ * <p>The recognized IDs are the ones returned by {@link java.time.ZoneId#getAvailableZoneIds()},
+ * snapshotted into an immutable lookup table on first use, so validation neither copies the set of
+ * IDs nor throws exceptions for invalid values. By default, matching is case-sensitive, as in
+ * {@link java.time.ZoneId#of(String)}. Fixed offsets, such as {@code +02:00} or {@code UTC+02:00},
+ * are rejected unless {@link #allowOffsets} is set to {@code true}.
+ *
+ * <p>Accepted values include:
+ *
+ * <ul>
+ *   <li>{@code Europe/Warsaw} - region ID
+ *   <li>{@code UTC} - region ID of the UTC zone
+ *   <li>{@code Etc/GMT+2} - region ID of a fixed offset zone
+ *   <li>{@code UTC+02:00} - fixed offset (if {@link #allowOffsets} is {@code true})
+ * </ul>
+ *
+ * <p>Rejected values include:
+ *
+ * <ul>
+ *   <li>{@code europe/warsaw} - lowercase (unless {@link #ignoreCase} is {@code true})
+ *   <li>{@code Europe/Atlantis} - not a known region ID
+ *   <li>{@code +02:00} - fixed offset (unless {@link #allowOffsets} is {@code true})
+ *   <li>{@code CET } - trailing whitespace
+ * </ul>
+ *
+ * <p>Supported types are:
+ *
+ * <ul>
+ *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+ *   <li>{@code java.time.ZoneId} - its {@link java.time.ZoneId#getId() ID} is validated, so offsets
+ *       are rejected unless {@link #allowOffsets} is {@code true}
+ * </ul>
+ *
+ * <p>{@code null} elements are considered valid.
+ *
+ * <p>Example usages:
+ *
+ * <pre>
+ * // Strict matching of region IDs
+ * &#064;ZoneId
+ * private String timeZone;
+ *
+ * // Accept any case and fixed offsets as well
+ * &#064;ZoneId(ignoreCase = true, allowOffsets = true)
+ * private String timeZone;
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+@Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+@Retention(RUNTIME)
+@Repeatable(ZoneId.List.class)
+@Documented
+@Constraint(validatedBy = ZoneIdValidator.class)
+public @interface ZoneId {
+
+  /**
+   * Returns the error message template.
+   *
+   * @return the error message template, which can be a literal message or a message key in a
+   *     resource bundle
+   * @since 1.3.0
+   */
+  String message() default "must be a valid time zone ID";
+
+  /**
+   * Returns the validation groups to which this constraint belongs.
+   *
+   * @return the validation groups to which this constraint belongs
+   * @since 1.3.0
+   */
+  Class<?>[] groups() default {};
+
+  /**
+   * Returns the payload with which the constraint violation can be associated.
+   *
+   * @return the payload with which the constraint violation can be associated
+   * @since 1.3.0
+   */
+  Class<? extends Payload>[] payload() default {};
+
+  /**
+   * Returns whether to ignore case when matching the time zone ID.
+   *
+   * @return whether to ignore the case of ASCII letters, {@code false} requires the canonical form
+   *     (e.g. {@code Europe/Warsaw})
+   * @since 1.3.0
+   */
+  boolean ignoreCase() default false;
+
+  /**
+   * Returns whether to also accept fixed offset IDs.
+   *
+   * @return {@code true} to accept {@code Z} and offsets such as {@code +02:00} or {@code
+   *     UTC+02:00}, as parsed by {@link java.time.ZoneId#of(String)}, {@code false} to accept only
+   *     region IDs
+   * @since 1.3.0
+   */
+  boolean allowOffsets() default false;
+
+  /**
+   * Defines several {@link ZoneId} annotations on the same element.
+   *
+   * @see ZoneId
+   * @since 1.3.0
+   */
+  @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
+  @Retention(RUNTIME)
+  @Documented
+  @interface List {
+
+    /**
+     * Returns the contained {@link ZoneId} annotations.
+     *
+     * @return array of {@link ZoneId} annotations
+     * @since 1.3.0
+     */
+    ZoneId[] value();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator for the {@link ZoneId} annotation.
+ *
+ * <p>Checks if the value of the annotated element is a time zone region ID known to the JDK, or a
+ * fixed offset ID if allowed.
+ *
+ * @since 1.3.0
+ */
+public class ZoneIdValidator implements ConstraintValidator<ZoneId, Object> {
+
+  private boolean ignoreCase;
+  private boolean allowOffsets;
+
+  /**
+   * Initializes the validator with the constraint annotation attributes.
+   *
+   * @param constraintAnnotation the annotation instance for a given constraint declaration
+   * @since 1.3.0
+   */
+  @Override
+  public void initialize(ZoneId constraintAnnotation) {
+    ignoreCase = constraintAnnotation.ignoreCase();
+    allowOffsets = constraintAnnotation.allowOffsets();
+  }
+
+  /**
+   * Validates that the given value is a known time zone ID.
+   *
+   * <p>Supported types are:
+   *
+   * <ul>
+   *   <li>{@code CharSequence} ({@code String} in particular, but also {@code StringBuilder} etc.)
+   *   <li>{@code java.time.ZoneId}, whose ID must be a known region ID, or an offset if allowed
+   * </ul>
+   *
+   * @param value the value to validate
+   * @param context the context in which the constraint is evaluated
+   * @return {@code true} if the value is valid, {@code false} otherwise
+   * @throws IllegalArgumentException if the value type is not supported
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isValid(@Nullable Object value, ConstraintValidatorContext context)
+      throws IllegalArgumentException {
+    if (value == null) {
+      return true;
+    }
+    if (value instanceof java.time.ZoneId) {
+      return isValidId(((java.time.ZoneId) value).getId(), false);
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+          ZoneId.class.getSimpleName()
+              + " not supported for "
+              + value.getClass().getName()
+              + " type");
+    }
+    return isValidId((CharSequence) value, ignoreCase);
+  }
+
+  private boolean isValidId(CharSequence id, boolean ignoreCase) {
+    int length = id.length();
+    if (length == 0) {
+      return false;
+    }
+    if (allowOffsets && ZoneIds.isOffsetId(id, 0, length, ignoreCase)) {
+      return true;
+    }
+    return ZoneIds.isRegionId(id, 0, length, ignoreCase);
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Lookups of time zone region IDs such as {@code Europe/Warsaw}.
+ *
+ * <p>{@link ZoneId#getAvailableZoneIds()} returns a fresh copy of all region IDs on every call, so
+ * the IDs are snapshotted once, on first use, into an array sorted ignoring ASCII case. A lookup is
+ * a binary search comparing the characters of the value in place, without allocating. No two region
+ * IDs differ only in case, so the same array serves case-sensitive and case-insensitive lookups.
+ */
+final class ZoneIds {
+
+  private ZoneIds() {}
+
+  /**
+   * Checks whether the given part of a value is a region ID known to the JDK.
+   *
+   * @param value the value to look up
+   * @param from the start of the region ID, inclusive
+   * @param to the end of the region ID, exclusive
+   * @param ignoreCase whether ASCII letters are matched regardless of case
+   * @return {@code true} if the region ID is available
+   */
+  static boolean isRegionId(CharSequence value, int from, int to, boolean ignoreCase) {
+    String[] ids = RegionIdsHolder.IDS;
+    int low = 0;
+    int high = ids.length - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compareIgnoreCase(ids[middle], value, from, to);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return ignoreCase || regionMatches(ids[middle], value, from);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the given part of a value is a fixed offset ID accepted by {@link
+   * ZoneId#of(String)}.
+   *
+   * <p>Accepted IDs are {@code Z}, an offset in one of the {@code ±h}, {@code ±hh}, {@code ±hh:mm},
+   * {@code ±hhmm}, {@code ±hh:mm:ss} or {@code ±hhmmss} forms up to {@code ±18:00}, and the {@code
+   * UTC}, {@code GMT} and {@code UT} prefixes, alone or followed by such an offset.
+   *
+   * @param value the value to check
+   * @param from the start of the ID, inclusive
+   * @param to the end of the ID, exclusive
+   * @param ignoreCase whether ASCII letters are matched regardless of case
+   * @return {@code true} if the ID is a fixed offset
+   */
+  static boolean isOffsetId(CharSequence value, int from, int to, boolean ignoreCase) {
+    int length = to - from;
+    if (length == 1) {
+      return isLetter(value.charAt(from), 'Z', ignoreCase);
+    }
+    int prefix = prefixLength(value, from, to, ignoreCase);
+    if (prefix > 0 && prefix == length) {
+      return true;
+    }
+    return isOffset(value, from + prefix, to);
+  }
+
+  /** Returns the length of the {@code UTC}, {@code GMT} or {@code UT} prefix, or {@code 0}. */
+  private static int prefixLength(CharSequence value, int from, int to, boolean ignoreCase) {
+    if (to - from < 2) {
+      return 0;
+    }
+    char first = value.charAt(from);
+    char second = value.charAt(from + 1);
+    boolean utc = isLetter(first, 'U', ignoreCase) && isLetter(second, 'T', ignoreCase);
+    boolean gmt = isLetter(first, 'G', ignoreCase) && isLetter(second, 'M', ignoreCase);
+    if (to - from > 2 && (utc || gmt)) {
+      char third = value.charAt(from + 2);
+      if ((utc && isLetter(third, 'C', ignoreCase)) || (gmt && isLetter(third, 'T', ignoreCase))) {
+        return 3;
+      }
+    }
+    return utc ? 2 : 0;
+  }
+
+  /** Checks a signed offset as parsed by {@link java.time.ZoneOffset#of(String)}. */
+  private static boolean isOffset(CharSequence value, int from, int to) {
+    char sign = value.charAt(from);
+    if (sign != '+' && sign != '-') {
+      return false;
+    }
+    int hours;
+    int minutes = 0;
+    int seconds = 0;
+    switch (to - from) {
+      case 2:
+        hours = digit(value, from + 1);
+        break;
+      case 3:
+        hours = twoDigits(value, from + 1);
+        break;
+      case 5:
+        hours = twoDigits(value, from + 1);
+        minutes = twoDigits(value, from + 3);
+        break;
+      case 6:
+        hours = twoDigits(value, from + 1);
+        minutes = value.charAt(from + 3) == ':' ? twoDigits(value, from + 4) : -1;
+        break;
+      case 7:
+        hours = twoDigits(value, from + 1);
+        minutes = twoDigits(value, from + 3);
+        seconds = twoDigits(value, from + 5);
+        break;
+      case 9:
+        hours = twoDigits(value, from + 1);
+        minutes = value.charAt(from + 3) == ':' ? twoDigits(value, from + 4) : -1;
+        seconds = value.charAt(from + 6) == ':' ? twoDigits(value, from + 7) : -1;
+        break;
+      default:
+        return false;
+    }
+    if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+      return false;
+    }
+    return hours < 18 || (hours == 18 && minutes == 0 && seconds == 0);
+  }
+
+  private static int digit(CharSequence value, int index) {
+    int digit = value.charAt(index) - '0';
+    return digit >= 0 && digit <= 9 ? digit : -1;
+  }
+
+  private static int twoDigits(CharSequence value, int from) {
+    int tens = digit(value, from);
+    int ones = digit(value, from + 1);
+    return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+  }
+
+  private static boolean isLetter(char ch, char uppercase, boolean ignoreCase) {
+    return ch == uppercase || (ignoreCase && ch == uppercase + ('a' - 'A'));
+  }
+
+  private static int compareIgnoreCase(String id, CharSequence value, int from, int to) {
+    int length = Math.min(id.length(), to - from);
+    for (int i = 0; i < length; i++) {
+      int comparison =
+          Character.compare(toLowerCase(id.charAt(i)), toLowerCase(value.charAt(from + i)));
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return Integer.compare(id.length(), to - from);
+  }
+
+  private static boolean regionMatches(String id, CharSequence value, int from) {
+    for (int i = 0; i < id.length(); i++) {
+      if (id.charAt(i) != value.charAt(from + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char toLowerCase(char ch) {
+    return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+  }
+
+  private static final class RegionIdsHolder {
+
+    private static final String[] IDS = sorted();
+
+    private static String[] sorted() {
+      String[] ids = ZoneId.getAvailableZoneIds().toArray(new String[0]);
+      Arrays.sort(ids, (first, second) -> compareIgnoreCase(first, second, 0, second.length()));
+      return ids;
+    }
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AcceptLanguageValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @AcceptLanguage private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "en-US",
+        "*",
+        "da, en-GB;q=0.8, en;q=0.7",
+        "fr-CH, fr;q=0.9, en;q=0.8, de;q=0.7, *;q=0.5",
+        "en;q=1, pl;q=1.000, de;q=0, fr;q=0.",
+        "en ; Q=0.5",
+        "en,\tpl",
+        "en,,pl",
+        " en ",
+        "zh-Hant-TW;q=0.123",
+        "i-klingon"
+      })
+  void givenValidAcceptLanguage_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        " ",
+        ",",
+        "en_US",
+        "en de",
+        "en;q=1.5",
+        "en;q=1.001",
+        "en;q=0.1234",
+        "en;q=2",
+        "en;q=",
+        "en;q",
+        "en;",
+        "en;level=1",
+        "en;q=0.5;q=0.4",
+        "en-",
+        "**",
+        "en-*"
+      })
+  void givenInvalidAcceptLanguage_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must be a valid Accept-Language header", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenStringBuilder_whenValidating_thenNoViolation() {
+    CharSequenceBean bean = new CharSequenceBean(new StringBuilder("en-GB, en;q=0.9"));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  private static final class CharSequenceBean {
+
+    @AcceptLanguage private final CharSequence value;
+
+    private CharSequenceBean(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenNullValue_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  // ----- maxEntries -----
+
+  private static final class MaxEntriesBean {
+
+    @AcceptLanguage(maxEntries = 2)
+    private final String value;
+
+    private MaxEntriesBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"en", "en, pl;q=0.5", "en,, pl,"})
+  void givenAtMostMaxEntries_whenValidating_thenNoViolation(String value) {
+    MaxEntriesBean bean = new MaxEntriesBean(value);
+
+    Set<ConstraintViolation<MaxEntriesBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenMoreThanMaxEntries_whenValidating_thenViolation() {
+    MaxEntriesBean bean = new MaxEntriesBean("en, pl;q=0.5, de;q=0.1");
+
+    Set<ConstraintViolation<MaxEntriesBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class MalformedMaxEntriesBean {
+
+    @AcceptLanguage(maxEntries = 0)
+    private final String value;
+
+    private MalformedMaxEntriesBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenNonPositiveMaxEntries_whenValidating_thenThrowsException() {
+    MalformedMaxEntriesBean bean = new MalformedMaxEntriesBean("en");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("maxEntries must be positive, got 0", e.getCause().getMessage());
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @AcceptLanguage
+    @AcceptLanguage(message = "header is invalid")
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("en-US, en;q=0.9");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("en-US en");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(2, violations.size());
+    assertTrue(
+        violations.stream()
+            .anyMatch(v -> "must be a valid Accept-Language header".equals(v.getMessage())));
+    assertTrue(violations.stream().anyMatch(v -> "header is invalid".equals(v.getMessage())));
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @AcceptLanguage private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals(
+        "AcceptLanguage not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@AcceptLanguage String> values;
+
+    private ListBean(@Nullable List<@AcceptLanguage String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@AcceptLanguage String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(List.of("en", "pl, en;q=0.5", "*"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("en", "en;q=2"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must be a valid Accept-Language header", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}
@@ -28,6 +28,7 @@
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -126,6 +127,240 @@ void givenIgnoreCaseWithUnrecognizedCode_whenValidating_thenViolation(String val
     assertEquals("must be a valid country code", violations.iterator().next().getMessage());
   }
 
+  // ----- includeJdkCountries -----
+
+  private static final class JdkCountriesBean {
+
+    @CountryCode(includeJdkCountries = true)
+    private final String value;
+
+    private JdkCountriesBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenIncludeJdkCountries_whenValidatingJdkCodes_thenNoViolation() {
+    for (String code : Locale.getISOCountries()) {
+      JdkCountriesBean bean = new JdkCountriesBean(code);
+
+      Set<ConstraintViolation<JdkCountriesBean>> violations = validator.validate(bean);
+
+      assertTrue(violations.isEmpty(), code);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"XX", "ZZ", "us"})
+  void givenIncludeJdkCountriesWithUnrecognizedCode_whenValidating_thenViolation(String value) {
+    JdkCountriesBean bean = new JdkCountriesBean(value);
+
+    Set<ConstraintViolation<JdkCountriesBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid country code", violations.iterator().next().getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"AC", "EA", "IC", "XK", "AN", "YU"})
+  void givenReservedOrWithdrawnCode_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid country code", violations.iterator().next().getMessage());
+  }
+
+  // ----- allowed, denied and regions -----
+
+  private static final class AllowedBean {
+
+    @CountryCode(allowed = {"PL", "DE", "XX"})
+    private final String value;
+
+    private AllowedBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PL", "DE"})
+  void givenAllowedCode_whenValidating_thenNoViolation(String value) {
+    AllowedBean bean = new AllowedBean(value);
+
+    Set<ConstraintViolation<AllowedBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US", "FR", "XX", "pl"})
+  void givenCodeNotAllowed_whenValidating_thenViolation(String value) {
+    AllowedBean bean = new AllowedBean(value);
+
+    Set<ConstraintViolation<AllowedBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid country code", violations.iterator().next().getMessage());
+  }
+
+  private static final class DeniedBean {
+
+    @CountryCode(
+        denied = {"KP", "IR"},
+        ignoreCase = true)
+    private final String value;
+
+    private DeniedBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US", "pl", "JP"})
+  void givenCodeNotDenied_whenValidating_thenNoViolation(String value) {
+    DeniedBean bean = new DeniedBean(value);
+
+    Set<ConstraintViolation<DeniedBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"KP", "ir", "XX"})
+  void givenDeniedCode_whenValidating_thenViolation(String value) {
+    DeniedBean bean = new DeniedBean(value);
+
+    Set<ConstraintViolation<DeniedBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid country code", violations.iterator().next().getMessage());
+  }
+
+  private static final class RegionBean {
+
+    @CountryCode(
+        regions = CountryCode.Region.EEA,
+        allowed = {"CH"},
+        denied = {"HU"})
+    private final String value;
+
+    private RegionBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PL", "DE", "NO", "IS", "CH"})
+  void givenCodeInRegion_whenValidating_thenNoViolation(String value) {
+    RegionBean bean = new RegionBean(value);
+
+    Set<ConstraintViolation<RegionBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US", "GB", "HU", "UA"})
+  void givenCodeOutsideRegion_whenValidating_thenViolation(String value) {
+    RegionBean bean = new RegionBean(value);
+
+    Set<ConstraintViolation<RegionBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid country code", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenRegions_whenListingCountryCodes_thenAllAreRecognized() {
+    Set<String> isoCountries = Set.of(Locale.getISOCountries());
+
+    for (CountryCode.Region region : CountryCode.Region.values()) {
+      for (String code : region.countryCodes()) {
+        assertTrue(isoCountries.contains(code), region + " contains unknown code " + code);
+      }
+    }
+  }
+
+  private static final class MalformedAllowedBean {
+
+    @CountryCode(allowed = {"pl"})
+    private final String value;
+
+    private MalformedAllowedBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenMalformedAllowedCode_whenValidating_thenThrowsException() {
+    MalformedAllowedBean bean = new MalformedAllowedBean("PL");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals(
+        "'pl' is not an uppercase ISO 3166-1 alpha-2 country code", e.getCause().getMessage());
+  }
+
+  // ----- Locale -----
+
+  private static final class LocaleBean {
+
+    @CountryCode(regions = CountryCode.Region.EU)
+    private final Locale value;
+
+    private LocaleBean(Locale value) {
+      this.value = value;
+    }
+
+    public Locale getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"pl-PL", "de-DE", "en-IE", "sr-Latn-HR", "fr-FR-u-ca-gregory"})
+  void givenLocaleWithAcceptedCountry_whenValidating_thenNoViolation(String value) {
+    LocaleBean bean = new LocaleBean(Locale.forLanguageTag(value));
+
+    Set<ConstraintViolation<LocaleBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"en-US", "en", "es-419", "und"})
+  void givenLocaleWithoutAcceptedCountry_whenValidating_thenViolation(String value) {
+    LocaleBean bean = new LocaleBean(Locale.forLanguageTag(value));
+
+    Set<ConstraintViolation<LocaleBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid country code", violations.iterator().next().getMessage());
+  }
+
   // ----- Repeatable annotations -----
 
   private static final class RepeatableBean {
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DateTimePatternValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @DateTimePattern(pattern = "dd/MM/uuuu")
+    private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"15/01/2024", "29/02/2024", "31/12/9999", "01/01/0000", "01/01/+12345"})
+  void givenMatchingValue_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15",
+        "5/01/2024",
+        "15/1/2024",
+        "15/01/24",
+        "15/01/20245",
+        "15-01-2024",
+        "29/02/2023",
+        "31/04/2024",
+        "00/01/2024",
+        "15/13/2024",
+        "15/01/2024 ",
+        "",
+        "aa/bb/cccc"
+      })
+  void givenNonMatchingValue_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenNullValue_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  // ----- Variable width and text fields -----
+
+  private static final class FlexibleBean {
+
+    @DateTimePattern(pattern = "d MMM uuuu, h:mm a", locale = "en")
+    private final String value;
+
+    private FlexibleBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"5 Jan 2024, 9:30 AM", "15 Dec 2024, 12:00 PM"})
+  void givenMatchingFlexibleValue_whenValidating_thenNoViolation(String value) {
+    FlexibleBean bean = new FlexibleBean(value);
+
+    Set<ConstraintViolation<FlexibleBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "5 January 2024, 9:30 AM",
+        "5 Jan 2024, 13:30 PM",
+        "5 jan 2024, 9:30 AM",
+        "-5 Jan"
+      })
+  void givenNonMatchingFlexibleValue_whenValidating_thenViolation(String value) {
+    FlexibleBean bean = new FlexibleBean(value);
+
+    Set<ConstraintViolation<FlexibleBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- locale -----
+
+  private static final class GermanBean {
+
+    @DateTimePattern(pattern = "d. MMMM uuuu", locale = "de-DE")
+    private final String value;
+
+    private GermanBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenLocalizedValue_whenValidating_thenLocaleUsed() {
+    assertTrue(validator.validate(new GermanBean("1. März 2024")).isEmpty());
+    assertEquals(1, validator.validate(new GermanBean("1. March 2024")).size());
+  }
+
+  private static final class InvalidLocaleBean {
+
+    @DateTimePattern(pattern = "dd/MM/uuuu", locale = "en_US")
+    private final String value;
+
+    private InvalidLocaleBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenInvalidLocale_whenValidating_thenThrowsException() {
+    InvalidLocaleBean bean = new InvalidLocaleBean("15/01/2024");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'en_US' is not a well-formed language tag", e.getCause().getMessage());
+  }
+
+  // ----- resolverStyle -----
+
+  private static final class SmartBean {
+
+    @DateTimePattern(pattern = "dd/MM/uuuu", resolverStyle = ResolverStyle.SMART)
+    private final String value;
+
+    private SmartBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenSmartResolverStyle_whenValidating_thenDayOfMonthClamped() {
+    assertTrue(validator.validate(new SmartBean("31/04/2024")).isEmpty());
+    assertEquals(1, validator.validate(new SmartBean("32/04/2024")).size());
+  }
+
+  private static final class YearOfEraBean {
+
+    @DateTimePattern(pattern = "dd/MM/yyyy")
+    private final String value;
+
+    private YearOfEraBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenYearOfEraWithStrictResolverStyle_whenValidating_thenThrowsException() {
+    YearOfEraBean bean = new YearOfEraBean("31/02/2024");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals(
+        "'dd/MM/yyyy' has a year-of-era without an era, use 'u' instead of 'y'",
+        e.getCause().getMessage());
+  }
+
+  private static final class YearOfEraWithEraBean {
+
+    @DateTimePattern(pattern = "dd/MM/yyyy G 'y'", locale = "en")
+    private final String value;
+
+    private YearOfEraWithEraBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenYearOfEraWithEra_whenValidating_thenDayOfMonthChecked() {
+    assertTrue(validator.validate(new YearOfEraWithEraBean("29/02/2024 AD y")).isEmpty());
+    assertEquals(1, validator.validate(new YearOfEraWithEraBean("31/02/2024 AD y")).size());
+  }
+
+  // ----- Invalid pattern -----
+
+  private static final class InvalidPatternBean {
+
+    @DateTimePattern(pattern = "dd/MM/uuuu'")
+    private final String value;
+
+    private InvalidPatternBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenInvalidPattern_whenValidating_thenThrowsException() {
+    InvalidPatternBean bean = new InvalidPatternBean("15/01/2024");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'dd/MM/uuuu'' is not a valid date-time pattern", e.getCause().getMessage());
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @DateTimePattern(pattern = "uuuu-MM-dd")
+    @DateTimePattern(pattern = "uuuu-MM-dd", resolverStyle = ResolverStyle.SMART)
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("2024-02-29");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("2024-02-30");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must match the date-time pattern uuuu-MM-dd", violations.iterator().next().getMessage());
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @DateTimePattern(pattern = "dd/MM/uuuu")
+    private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals(
+        "DateTimePattern not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenNonMatchingValue_whenValidating_thenDefaultMessage() {
+    StringBean bean = new StringBean("2024-01-15");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must match the date-time pattern dd/MM/uuuu", violations.iterator().next().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@DateTimePattern(pattern = "dd/MM/uuuu") String> values;
+
+    private ListBean(@Nullable List<@DateTimePattern(pattern = "dd/MM/uuuu") String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@DateTimePattern(pattern = "dd/MM/uuuu") String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(List.of("15/01/2024", "29/02/2024"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("15/01/2024", "29/02/2023"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must match the date-time pattern dd/MM/uuuu", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}
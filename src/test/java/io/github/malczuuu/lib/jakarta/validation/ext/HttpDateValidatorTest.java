@@ -0,0 +1,391 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HttpDateValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @HttpDate private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "Sun, 06 Nov 1994 08:49:37 GMT",
+        "Thu, 29 Feb 2024 23:59:59 GMT",
+        "Sat, 01 Jan 2000 00:00:00 GMT",
+        "Fri, 31 Dec 1999 12:00:00 GMT",
+        "Thu, 01 Jan 1970 00:00:00 GMT"
+      })
+  void givenValidHttpDate_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "Mon, 06 Nov 1994 08:49:37 GMT",
+        "Sun, 6 Nov 1994 08:49:37 GMT",
+        "sun, 06 Nov 1994 08:49:37 GMT",
+        "Sun, 06 nov 1994 08:49:37 GMT",
+        "SUN, 06 NOV 1994 08:49:37 GMT",
+        "Sun, 06 Nov 1994 08:49:37 gmt",
+        "Sun, 06 Nov 1994 08:49:37 UTC",
+        "Sun, 06 Nov 1994 08:49:37 +0000",
+        "Sun, 06 Nov 1994 08:49:37",
+        "Sun, 06 Nov 1994 08:49:37 GMT ",
+        " Sun, 06 Nov 1994 08:49:37 GMT",
+        "Sun,06 Nov 1994 08:49:37 GMT",
+        "Sun, 06 Nov 94 08:49:37 GMT",
+        "Fri, 29 Feb 2023 00:00:00 GMT",
+        "Mon, 31 Apr 2024 00:00:00 GMT",
+        "Sun, 00 Nov 1994 08:49:37 GMT",
+        "Sun, 06 Nov 1994 24:00:00 GMT",
+        "Sun, 06 Nov 1994 08:60:00 GMT",
+        "Sun, 06 Nov 1994 08:49:60 GMT",
+        "Sun, 06 Nov 1994 8:49:37 GMT",
+        "Sun, 06 Nov 1994 08-49-37 GMT",
+        "Sun, 06 Nox 1994 08:49:37 GMT",
+        "Sün, 06 Nov 1994 08:49:37 GMT",
+        "Sunday, 06-Nov-94 08:49:37 GMT",
+        "Sun Nov  6 08:49:37 1994",
+        "1994-11-06T08:49:37Z"
+      })
+  void givenInvalidHttpDate_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenNullHttpDate_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenStringBuilderHttpDate_whenValidating_thenNoViolation() {
+    CharSequenceBean bean =
+        new CharSequenceBean(new StringBuilder("Sun, 06 Nov 1994 08:49:37 GMT"));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  private static final class CharSequenceBean {
+
+    @HttpDate private final CharSequence value;
+
+    private CharSequenceBean(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  // ----- formats -----
+
+  private static final class AllFormatsBean {
+
+    @HttpDate(
+        formats = {HttpDate.Format.IMF_FIXDATE, HttpDate.Format.RFC_850, HttpDate.Format.ASCTIME})
+    private final String value;
+
+    private AllFormatsBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "Sun, 06 Nov 1994 08:49:37 GMT",
+        "Sunday, 06-Nov-94 08:49:37 GMT",
+        "Wednesday, 09-Nov-94 08:49:37 GMT",
+        "Sun Nov  6 08:49:37 1994",
+        "Sun Nov 06 08:49:37 1994",
+        "Thu Feb 29 23:59:59 2024"
+      })
+  void givenObsoleteFormatsAccepted_whenValidating_thenNoViolation(String value) {
+    AllFormatsBean bean = new AllFormatsBean(value);
+
+    Set<ConstraintViolation<AllFormatsBean>> violations =
+        validatorAt("2024-06-15T12:00:00Z").validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "Sun, 06-Nov-94 08:49:37 GMT",
+        "Sunday, 06 Nov 1994 08:49:37 GMT",
+        "Sundy, 06-Nov-94 08:49:37 GMT",
+        "Monday, 06-Nov-94 08:49:37 GMT",
+        "Sunday, 06-Nov-1994 08:49:37 GMT",
+        "Sunday, 06-Nov-94 08:49:37 UTC",
+        "Sun Nov 6 08:49:37 1994",
+        "Sun Nov  6 08:49:37 94",
+        "Mon Nov  6 08:49:37 1994",
+        "Sun Nov  6 08:49:37 1994 GMT"
+      })
+  void givenMalformedObsoleteFormat_whenValidating_thenViolation(String value) {
+    AllFormatsBean bean = new AllFormatsBean(value);
+
+    Set<ConstraintViolation<AllFormatsBean>> violations =
+        validatorAt("2024-06-15T12:00:00Z").validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenRfc850Date_whenValidating_thenYearResolvedWithinFiftyYears() {
+    AllFormatsBean in2070 = new AllFormatsBean("Wednesday, 01-Jan-70 00:00:00 GMT");
+    AllFormatsBean in1970 = new AllFormatsBean("Thursday, 01-Jan-70 00:00:00 GMT");
+
+    Validator before = validatorAt("2019-12-31T23:59:59Z");
+    assertEquals(1, before.validate(in2070).size());
+    assertTrue(before.validate(in1970).isEmpty());
+
+    Validator after = validatorAt("2020-01-01T00:00:00Z");
+    assertTrue(after.validate(in2070).isEmpty());
+    assertEquals(1, after.validate(in1970).size());
+  }
+
+  private static final class AsctimeBean {
+
+    @HttpDate(formats = HttpDate.Format.ASCTIME)
+    private final String value;
+
+    private AsctimeBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenSingleFormat_whenValidating_thenOtherFormatsRejected() {
+    assertTrue(validator.validate(new AsctimeBean("Sun Nov  6 08:49:37 1994")).isEmpty());
+    assertEquals(1, validator.validate(new AsctimeBean("Sun, 06 Nov 1994 08:49:37 GMT")).size());
+    assertEquals(1, validator.validate(new AsctimeBean("Sunday, 06-Nov-94 08:49:37 GMT")).size());
+  }
+
+  private static final class EmptyFormatsBean {
+
+    @HttpDate(formats = {})
+    private final String value;
+
+    private EmptyFormatsBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenEmptyFormats_whenValidating_thenThrowsException() {
+    EmptyFormatsBean bean = new EmptyFormatsBean("Sun, 06 Nov 1994 08:49:37 GMT");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("formats must not be empty", e.getCause().getMessage());
+  }
+
+  private static Validator validatorAt(String instant) {
+    Clock clock = Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+    try (ValidatorFactory factory =
+        Validation.byDefaultProvider()
+            .configure()
+            .clockProvider(() -> clock)
+            .buildValidatorFactory()) {
+      return factory.getValidator();
+    }
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @HttpDate
+    @HttpDate(message = "date is invalid")
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("Sun, 06 Nov 1994 08:49:37 GMT");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("Sun, 06 Nov 1994");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(2, violations.size());
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @HttpDate private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("HttpDate not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenInvalidHttpDate_whenValidating_thenDefaultMessage() {
+    StringBean bean = new StringBean("Sun, 06 Nov 1994");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid HTTP date", violations.iterator().next().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@HttpDate String> values;
+
+    private ListBean(@Nullable List<@HttpDate String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@HttpDate String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean =
+        new ListBean(List.of("Sun, 06 Nov 1994 08:49:37 GMT", "Thu, 29 Feb 2024 23:59:59 GMT"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("Sun, 06 Nov 1994 08:49:37 GMT", "Sun, 06 Nov 1994"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid HTTP date", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}
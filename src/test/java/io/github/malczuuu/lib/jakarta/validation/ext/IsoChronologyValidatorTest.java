@@ -0,0 +1,397 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class IsoChronologyValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  @IsoChronology(start = "from", end = "to")
+  private static final class RangeBean {
+
+    private final @Nullable String from;
+    private final @Nullable String to;
+
+    private RangeBean(@Nullable String from, @Nullable String to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public @Nullable String getFrom() {
+      return from;
+    }
+
+    public @Nullable String getTo() {
+      return to;
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2024-01-01, 2024-01-31",
+    "2024-01-01, 2024-01-01",
+    "2024-01-01T10:00, 2024-01-01T10:00:00.000000001",
+    "2024-01-01T12:00+02:00, 2024-01-01T10:00Z",
+    "2024-01-01T10:00Z, 2024-01-01T10:00Z[UTC]",
+    "2024-01-01, 2024-01-01T00:00",
+    "2024-01-01T23:59, 2024-01-02",
+    "2024-W01-1, 2024-01-01",
+    "20240101, 2024-001"
+  })
+  void givenOrderedValues_whenValidating_thenNoViolation(String from, String to) {
+    RangeBean bean = new RangeBean(from, to);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2024-01-31, 2024-01-01",
+    "2024-01-01T10:00:00.5, 2024-01-01T10:00:00.4",
+    "2024-01-01T10:00Z, 2024-01-01T11:00+02:00",
+    "2024-01-01T00:00:01, 2024-01-01",
+    "2024-01-02, 2023-12-31T23:59"
+  })
+  void givenUnorderedValues_whenValidating_thenViolationOnEnd(String from, String to) {
+    RangeBean bean = new RangeBean(from, to);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("to", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2024-01-01T10:00, 2024-01-01T12:00+05:00",
+    "2024-01-01T10:00Z, 2024-01-01T12:00",
+    "2024-01-01, 2024-01-02T00:00Z",
+    "2024-01-01T00:00Z[UTC], 2024-01-02"
+  })
+  void givenLocalAndOffsetValues_whenValidating_thenViolationOnEnd(String from, String to) {
+    RangeBean bean = new RangeBean(from, to);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("to", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      value = {"2024-01-31, ", ", 2024-01-01", "2024-01-31, 2024-01-99", "tomorrow, 2024-01-01"},
+      nullValues = "")
+  void givenMissingOrMalformedValue_whenValidating_thenNoViolation(
+      @Nullable String from, @Nullable String to) {
+    RangeBean bean = new RangeBean(from, to);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  // ----- maxSpan -----
+
+  @IsoChronology(start = "checkIn", end = "checkOut", maxSpan = "P30D")
+  private static final class BookingBean {
+
+    private final String checkIn;
+    private final String checkOut;
+
+    private BookingBean(String checkIn, String checkOut) {
+      this.checkIn = checkIn;
+      this.checkOut = checkOut;
+    }
+
+    public String getCheckIn() {
+      return checkIn;
+    }
+
+    public String getCheckOut() {
+      return checkOut;
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2024-01-01, 2024-01-31",
+    "2024-01-01T10:00Z, 2024-01-31T10:00Z",
+    "2024-01-01T10:00+01:00, 2024-01-31T09:00Z"
+  })
+  void givenValuesWithinMaxSpan_whenValidating_thenNoViolation(String checkIn, String checkOut) {
+    BookingBean bean = new BookingBean(checkIn, checkOut);
+
+    Set<ConstraintViolation<BookingBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2024-01-01, 2024-02-01",
+    "2024-01-01T10:00Z, 2024-01-31T10:00:00.001Z",
+    "2024-01-01T10:00Z, 2024-01-31T10:00-01:00"
+  })
+  void givenValuesExceedingMaxSpan_whenValidating_thenViolationOnEnd(
+      String checkIn, String checkOut) {
+    BookingBean bean = new BookingBean(checkIn, checkOut);
+
+    Set<ConstraintViolation<BookingBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("checkOut", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  @IsoChronology(start = "from", end = "to", maxSpan = "P1M")
+  private static final class InvalidMaxSpanBean {
+
+    private final String from;
+    private final String to;
+
+    private InvalidMaxSpanBean(String from, String to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public String getFrom() {
+      return from;
+    }
+
+    public String getTo() {
+      return to;
+    }
+  }
+
+  @Test
+  void givenInvalidMaxSpan_whenValidating_thenThrowsException() {
+    InvalidMaxSpanBean bean = new InvalidMaxSpanBean("2024-01-01", "2024-01-02");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'P1M' is not a valid ISO 8601 duration", e.getCause().getMessage());
+  }
+
+  // ----- Property access -----
+
+  @IsoChronology(start = "from", end = "to")
+  private static final class FieldBean {
+
+    private final String from;
+    private final String to;
+
+    private FieldBean(String from, String to) {
+      this.from = from;
+      this.to = to;
+    }
+  }
+
+  @Test
+  void givenPropertiesWithoutGetters_whenValidating_thenFieldsRead() {
+    assertTrue(validator.validate(new FieldBean("2024-01-01", "2024-01-02")).isEmpty());
+
+    Set<ConstraintViolation<FieldBean>> violations =
+        validator.validate(new FieldBean("2024-01-02", "2024-01-01"));
+    assertEquals(1, violations.size());
+    assertEquals("to", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  @IsoChronology(start = "from", end = "to")
+  private static class BaseBean {
+
+    private final String from;
+    private final String to;
+
+    private BaseBean(String from, String to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public String getFrom() {
+      return from;
+    }
+
+    public String getTo() {
+      return to;
+    }
+  }
+
+  private static final class DerivedBean extends BaseBean {
+
+    private DerivedBean(String from, String to) {
+      super(from, to);
+    }
+  }
+
+  @Test
+  void givenInheritedProperties_whenValidating_thenGettersRead() {
+    assertTrue(validator.validate(new DerivedBean("2024-01-01", "2024-01-02")).isEmpty());
+
+    Set<ConstraintViolation<DerivedBean>> violations =
+        validator.validate(new DerivedBean("2024-01-02", "2024-01-01"));
+    assertEquals(1, violations.size());
+    assertEquals("to", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  @IsoChronology(start = "from", end = "until")
+  private static final class MissingPropertyBean {
+
+    private final String from;
+    private final String to;
+
+    private MissingPropertyBean(String from, String to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public String getFrom() {
+      return from;
+    }
+
+    public String getTo() {
+      return to;
+    }
+  }
+
+  @Test
+  void givenMissingProperty_whenValidating_thenThrowsException() {
+    MissingPropertyBean bean = new MissingPropertyBean("2024-01-01", "2024-01-02");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals(
+        "'until' is not a property of " + MissingPropertyBean.class.getName(),
+        e.getCause().getMessage());
+  }
+
+  // ----- Repeatable annotations -----
+
+  @IsoChronology(start = "from", end = "to")
+  @IsoChronology(start = "to", end = "until")
+  private static final class RepeatableBean {
+
+    private final String from;
+    private final String to;
+    private final String until;
+
+    private RepeatableBean(String from, String to, String until) {
+      this.from = from;
+      this.to = to;
+      this.until = until;
+    }
+
+    public String getFrom() {
+      return from;
+    }
+
+    public String getTo() {
+      return to;
+    }
+
+    public String getUntil() {
+      return until;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("2024-01-01", "2024-01-02", "2024-01-03");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("2024-01-01", "2024-01-03", "2024-01-02");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(1, violations.size());
+    assertEquals("until", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  // ----- Unsupported type -----
+
+  @IsoChronology(start = "from", end = "to")
+  private static final class UnsupportedBean {
+
+    private final Object from;
+    private final Object to;
+
+    private UnsupportedBean(Object from, Object to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public Object getFrom() {
+      return from;
+    }
+
+    public Object getTo() {
+      return to;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object(), new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals(
+        "IsoChronology not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenUnorderedValues_whenValidating_thenDefaultMessage() {
+    RangeBean bean = new RangeBean("2024-01-02", "2024-01-01");
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must not be before from or exceed the maximum span",
+        violations.iterator().next().getMessage());
+  }
+}
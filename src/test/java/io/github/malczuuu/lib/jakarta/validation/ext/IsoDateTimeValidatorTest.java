@@ -27,6 +27,10 @@
 import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
@@ -69,7 +73,12 @@ private StringBean(@Nullable String value) {
         "2024-01-15T10:30:00+05:30",
         "2024-01-15T10:30:00-03:00",
         "2024-01-15T10:30:00.123Z",
-        "2024-01-15T10:30:00.123456789Z"
+        "2024-01-15T10:30:00.123456789Z",
+        "2024-01-15t10:30z",
+        "2024-02-30T10:30:00",
+        "2024-01-15T24:00",
+        "2024-01-15T10:30:00.",
+        "+10000-01-01T00:00-18:00"
       })
   void givenValidDateTime_whenValidating_thenNoViolation(String value) {
     StringBean bean = new StringBean(value);
@@ -86,7 +95,12 @@ void givenValidDateTime_whenValidating_thenNoViolation(String value) {
         "2024-01-15 10:30:00",
         "not-a-date-time",
         "2024-13-15T10:30:00",
-        "2024-01-15T25:00:00"
+        "2024-01-15T25:00:00",
+        "2024-01-15T10:30:00+05",
+        "2024-01-15T10:30:00+19:00",
+        "2024-01-15T10:30:00.1234567890",
+        "2024-02-32T10:30:00",
+        "+999999999-12-31T24:00"
       })
   void givenInvalidDateTime_whenValidating_thenViolation(String value) {
     StringBean bean = new StringBean(value);
@@ -123,7 +137,8 @@ private OffsetRequiredBean(@Nullable String value) {
   }
 
   @ParameterizedTest
-  @ValueSource(strings = {"2024-01-15T10:30:00Z", "2024-01-15T10:30:00+05:30"})
+  @ValueSource(
+      strings = {"2024-01-15T10:30:00Z", "2024-01-15T10:30:00+05:30", "2024-01-15t10:30+05"})
   void givenValidDateTimeWithOffset_whenOffsetRequired_thenNoViolation(String value) {
     OffsetRequiredBean bean = new OffsetRequiredBean(value);
 
@@ -132,6 +147,22 @@ void givenValidDateTimeWithOffset_whenOffsetRequired_thenNoViolation(String valu
     assertTrue(violations.isEmpty());
   }
 
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-02-30T10:30Z",
+        "2024-01-15T24:00Z",
+        "2024-01-15T10:30+0530",
+        "2024-01-15T10:30+18:01"
+      })
+  void givenInvalidDateTimeWithOffset_whenOffsetRequired_thenViolation(String value) {
+    OffsetRequiredBean bean = new OffsetRequiredBean(value);
+
+    Set<ConstraintViolation<OffsetRequiredBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
   @Test
   void givenDateTimeWithoutOffset_whenOffsetRequired_thenViolation() {
     OffsetRequiredBean bean = new OffsetRequiredBean("2024-01-15T10:30:00");
@@ -151,6 +182,709 @@ void givenNullDateTime_whenOffsetRequired_thenNoViolation() {
     assertTrue(violations.isEmpty());
   }
 
+  // ----- zoneId -----
+
+  private static final class OptionalZoneIdBean {
+
+    @IsoDateTime(zoneId = IsoDateTime.ZoneIdMode.OPTIONAL)
+    private final @Nullable String value;
+
+    private OptionalZoneIdBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  private static final class RequiredZoneIdBean {
+
+    @IsoDateTime(
+        offsetRequired = true,
+        zoneId = IsoDateTime.ZoneIdMode.REQUIRED,
+        max = "2024-12-31T23:59:59Z")
+    private final @Nullable String value;
+
+    private RequiredZoneIdBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00",
+        "2024-01-15T10:30:00+01:00",
+        "2024-01-15T10:30:00+01:00[Europe/Warsaw]",
+        "2024-01-15T10:30[America/Port-au-Prince]",
+        "2024-01-15T10:30:00Z[UTC]",
+        "2024-01-15T10:30:00-05:00[America/Argentina/Buenos_Aires]"
+      })
+  void givenDateTimeWithOrWithoutZoneId_whenZoneIdOptional_thenNoViolation(String value) {
+    OptionalZoneIdBean bean = new OptionalZoneIdBean(value);
+
+    Set<ConstraintViolation<OptionalZoneIdBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00+01:00[Europe/Atlantis]",
+        "2024-01-15T10:30:00+01:00[europe/warsaw]",
+        "2024-01-15T10:30:00+01:00[]",
+        "2024-01-15T10:30:00+01:00[+01:00]",
+        "2024-01-15T10:30:00+01:00Europe/Warsaw]",
+        "2024-01-15T10:30:00+01:00 [Europe/Warsaw]",
+        "2024-01-15[Europe/Warsaw]"
+      })
+  void givenInvalidZoneId_whenZoneIdOptional_thenViolation(String value) {
+    OptionalZoneIdBean bean = new OptionalZoneIdBean(value);
+
+    Set<ConstraintViolation<OptionalZoneIdBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenDateTimeWithZoneId_whenZoneIdRequired_thenZoneIdAndBoundsEnforced() {
+    assertTrue(
+        validator
+            .validate(new RequiredZoneIdBean("2025-01-01T00:59:59+01:00[Europe/Warsaw]"))
+            .isEmpty());
+    assertEquals(
+        1,
+        validator
+            .validate(new RequiredZoneIdBean("2024-12-31T23:59:59-01:00[Atlantic/Azores]"))
+            .size());
+    assertEquals(1, validator.validate(new RequiredZoneIdBean("2024-01-15T10:30:00+01:00")).size());
+    assertEquals(
+        1, validator.validate(new RequiredZoneIdBean("2024-01-15T10:30[Europe/Warsaw]")).size());
+  }
+
+  @Test
+  void givenDateTimeWithZoneId_whenZoneIdForbidden_thenViolation() {
+    StringBean bean = new StringBean("2024-01-15T10:30:00+01:00[Europe/Warsaw]");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- min and max -----
+
+  private static final class RangeBean {
+
+    @IsoDateTime(min = "2024-01-01T00:00:00Z", max = "2024-12-31T23:59:59.999Z")
+    private final @Nullable String value;
+
+    private RangeBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T00:00:00Z",
+        "2024-01-01T01:00:00+01:00",
+        "2024-12-31T23:59:59.999Z",
+        "2025-01-01T00:59:59.999+01:00"
+      })
+  void givenDateTimeWithinRange_whenValidating_thenNoViolation(String value) {
+    RangeBean bean = new RangeBean(value);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2023-12-31T23:59:59.999999999Z",
+        "2024-01-01T00:59:59+01:00",
+        "2023-12-31T23:59",
+        "2024-06-15T10:30",
+        "2024-12-31T23:59:59.9991Z",
+        "2024-12-31T23:00:00-01:00"
+      })
+  void givenDateTimeOutsideRange_whenValidating_thenViolation(String value) {
+    RangeBean bean = new RangeBean(value);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class LocalRangeBean {
+
+    @IsoDateTime(min = "2024-01-01T00:00", max = "2024-12-31T23:59:59")
+    private final @Nullable Object value;
+
+    private LocalRangeBean(@Nullable Object value) {
+      this.value = value;
+    }
+
+    public @Nullable Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenOffsetOnlyOnValueOrBound_whenValidating_thenViolation() {
+    assertTrue(validator.validate(new LocalRangeBean("2024-06-15T10:30")).isEmpty());
+    assertEquals(1, validator.validate(new LocalRangeBean("2024-06-15T10:30Z")).size());
+    assertEquals(1, validator.validate(new LocalRangeBean("2024-06-15T10:30+01:00")).size());
+    assertEquals(1, validator.validate(new LocalRangeBean(1_718_447_400_000L)).size());
+  }
+
+  private static final class InvalidBoundBean {
+
+    @IsoDateTime(max = "2024-01-15")
+    private final String value;
+
+    private InvalidBoundBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenInvalidBound_whenValidating_thenThrowsException() {
+    InvalidBoundBean bean = new InvalidBoundBean("2024-01-15T10:30:00");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'2024-01-15' is not a valid ISO 8601 date-time", e.getCause().getMessage());
+  }
+
+  // ----- past and future -----
+
+  private static final class PastBean {
+
+    @IsoDateTime(past = true)
+    private final @Nullable String value;
+
+    private PastBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  private static final class FutureOrPresentBean {
+
+    @IsoDateTime(future = true, orPresent = true)
+    private final @Nullable String value;
+
+    private FutureOrPresentBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-06-15T12:00:00.499Z",
+        "2024-06-15T13:00:00.499+01:00",
+        "2024-06-15T14:00:00.499"
+      })
+  void givenDateTimeBeforeClock_whenValidatingPast_thenNoViolation(String value) {
+    Validator fixed = validatorAt("2024-06-15T12:00:00.500Z", "Europe/Warsaw");
+
+    assertTrue(fixed.validate(new PastBean(value)).isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-06-15T12:00:00.500Z",
+        "2024-06-15T11:00:00.500-01:00",
+        "2024-06-15T14:00:00.500"
+      })
+  void givenDateTimeAtClock_whenValidating_thenOnlyOrPresentAccepts(String value) {
+    Validator fixed = validatorAt("2024-06-15T12:00:00.500Z", "Europe/Warsaw");
+
+    assertEquals(1, fixed.validate(new PastBean(value)).size());
+    assertTrue(fixed.validate(new FutureOrPresentBean(value)).isEmpty());
+  }
+
+  @Test
+  void givenDateTimeBeforeClock_whenValidatingFutureOrPresent_thenViolation() {
+    Validator fixed = validatorAt("2024-06-15T12:00:00Z", "UTC");
+
+    assertEquals(1, fixed.validate(new FutureOrPresentBean("2024-06-15T11:59:59Z")).size());
+  }
+
+  private static final class PastAndFutureBean {
+
+    @IsoDateTime(past = true, future = true)
+    private final String value;
+
+    private PastAndFutureBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenPastAndFuture_whenValidating_thenThrowsException() {
+    PastAndFutureBean bean = new PastAndFutureBean("2024-01-15T10:30:00");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("past and future cannot both be set", e.getCause().getMessage());
+  }
+
+  private static Validator validatorAt(String instant, String zone) {
+    Clock clock = Clock.fixed(Instant.parse(instant), ZoneId.of(zone));
+    try (ValidatorFactory factory =
+        Validation.byDefaultProvider()
+            .configure()
+            .clockProvider(() -> clock)
+            .buildValidatorFactory()) {
+      return factory.getValidator();
+    }
+  }
+
+  // ----- secondsRequired and maxFractionDigits -----
+
+  private static final class PrecisionBean {
+
+    @IsoDateTime(secondsRequired = true, maxFractionDigits = 3)
+    private final @Nullable String value;
+
+    private PrecisionBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00",
+        "2024-01-15T10:30:00.",
+        "2024-01-15T10:30:00.123",
+        "2024-01-15T10:30:00.1Z"
+      })
+  void givenSecondsAndMillis_whenPrecisionRestricted_thenNoViolation(String value) {
+    PrecisionBean bean = new PrecisionBean(value);
+
+    Set<ConstraintViolation<PrecisionBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30",
+        "2024-01-15T10:30Z",
+        "2024-01-15T10:30:00.1234",
+        "2024-01-15T10:30:00.123456789Z"
+      })
+  void givenMissingSecondsOrExtraDigits_whenPrecisionRestricted_thenViolation(String value) {
+    PrecisionBean bean = new PrecisionBean(value);
+
+    Set<ConstraintViolation<PrecisionBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class NoFractionBean {
+
+    @IsoDateTime(maxFractionDigits = 0)
+    private final @Nullable String value;
+
+    private NoFractionBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenDecimalPoint_whenFractionsRejected_thenViolation() {
+    assertTrue(validator.validate(new NoFractionBean("2024-01-15T10:30:00")).isEmpty());
+    assertEquals(1, validator.validate(new NoFractionBean("2024-01-15T10:30:00.")).size());
+    assertEquals(1, validator.validate(new NoFractionBean("2024-01-15T10:30:00.Z")).size());
+    assertEquals(1, validator.validate(new NoFractionBean("2024-01-15T10:30:00.1")).size());
+  }
+
+  private static final class InvalidFractionDigitsBean {
+
+    @IsoDateTime(maxFractionDigits = 10)
+    private final String value;
+
+    private InvalidFractionDigitsBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenMaxFractionDigitsOutOfRange_whenValidating_thenThrowsException() {
+    InvalidFractionDigitsBean bean = new InvalidFractionDigitsBean("2024-01-15T10:30");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("maxFractionDigits must be between 0 and 9, got 10", e.getCause().getMessage());
+  }
+
+  // ----- offsetPolicy -----
+
+  private static final class UtcOnlyBean {
+
+    @IsoDateTime(offsetPolicy = OffsetPolicy.UTC_ONLY)
+    private final @Nullable String value;
+
+    private UtcOnlyBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  private static final class NonZeroBean {
+
+    @IsoDateTime(offsetPolicy = OffsetPolicy.NON_ZERO)
+    private final @Nullable String value;
+
+    private NonZeroBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00",
+        "2024-01-15T10:30:00Z",
+        "2024-01-15T10:30:00+00:00",
+        "2024-01-15T10:30:00-00:00"
+      })
+  void givenUtcOrNoOffset_whenUtcOnly_thenNoViolation(String value) {
+    UtcOnlyBean bean = new UtcOnlyBean(value);
+
+    Set<ConstraintViolation<UtcOnlyBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00+05:30",
+        "2024-01-15T10:30:00-00:00:01",
+        "2024-01-15T10:30:00+01:00"
+      })
+  void givenNonZeroOffset_whenUtcOnly_thenViolation(String value) {
+    UtcOnlyBean bean = new UtcOnlyBean(value);
+
+    Set<ConstraintViolation<UtcOnlyBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00",
+        "2024-01-15T10:30:00+05:30",
+        "2024-01-15T10:30:00-00:00:01"
+      })
+  void givenNonZeroOrNoOffset_whenNonZero_thenNoViolation(String value) {
+    NonZeroBean bean = new NonZeroBean(value);
+
+    Set<ConstraintViolation<NonZeroBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2024-01-15T10:30:00Z", "2024-01-15T10:30:00+00:00"})
+  void givenZeroOffset_whenNonZero_thenViolation(String value) {
+    NonZeroBean bean = new NonZeroBean(value);
+
+    Set<ConstraintViolation<NonZeroBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- profile -----
+
+  private static final class Rfc3339Bean {
+
+    @IsoDateTime(profile = IsoDateTime.Profile.RFC3339)
+    private final String value;
+
+    private Rfc3339Bean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00Z",
+        "2024-01-15t10:30:00z",
+        "2024-01-15T10:30:00.5+01:00",
+        "2024-01-15T10:30:00.123456789-05:30",
+        "2024-01-15T10:30:00-00:00",
+        "0001-01-01T00:00:00Z"
+      })
+  void givenRfc3339DateTime_whenRfc3339Profile_thenNoViolation(String value) {
+    Rfc3339Bean bean = new Rfc3339Bean(value);
+
+    Set<ConstraintViolation<Rfc3339Bean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30:00",
+        "2024-01-15T10:30Z",
+        "2024-01-15T10:30:00+01",
+        "2024-01-15T10:30:00+01:00:00",
+        "+2024-01-15T10:30:00Z",
+        "+12024-01-15T10:30:00Z",
+        "-0001-01-15T10:30:00Z",
+        "2024-01-15T24:00:00Z",
+        "2024-02-30T10:30:00Z",
+        "2024-01-15T10:30:60Z",
+        "2024-01-15 10:30:00Z",
+        "2024-01-15T10:30:00.Z",
+        "2024-01-15T10:30:00.+01:00"
+      })
+  void givenNonRfc3339DateTime_whenRfc3339Profile_thenViolation(String value) {
+    Rfc3339Bean bean = new Rfc3339Bean(value);
+
+    Set<ConstraintViolation<Rfc3339Bean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class Rfc3339UtcBean {
+
+    @IsoDateTime(
+        profile = IsoDateTime.Profile.RFC3339,
+        maxFractionDigits = 3,
+        offsetPolicy = OffsetPolicy.UTC_ONLY)
+    private final String value;
+
+    private Rfc3339UtcBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRfc3339ProfileWithPolicies_whenValidating_thenBothEnforced() {
+    assertTrue(validator.validate(new Rfc3339UtcBean("2024-01-15T10:30:00.123Z")).isEmpty());
+    assertEquals(1, validator.validate(new Rfc3339UtcBean("2024-01-15T10:30:00.1234Z")).size());
+    assertEquals(1, validator.validate(new Rfc3339UtcBean("2024-01-15T10:30:00+01:00")).size());
+    assertEquals(1, validator.validate(new Rfc3339UtcBean("2024-01-15T10:30Z")).size());
+  }
+
+  // ----- epochUnit -----
+
+  private static final class EpochMillisBean {
+
+    @IsoDateTime(min = "2000-01-01T00:00Z", max = "2099-12-31T23:59:59.999Z")
+    private final Object value;
+
+    private EpochMillisBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {946_684_800_000L, 1_705_314_600_000L, 4_102_444_799_999L})
+  void givenEpochMillisWithinRange_whenValidating_thenNoViolation(long value) {
+    assertTrue(validator.validate(new EpochMillisBean(value)).isEmpty());
+    assertTrue(validator.validate(new EpochMillisBean(BigInteger.valueOf(value))).isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {946_684_799_999L, 4_102_444_800_000L, -1L, Long.MAX_VALUE})
+  void givenEpochMillisOutsideRange_whenValidating_thenViolation(long value) {
+    assertEquals(1, validator.validate(new EpochMillisBean(value)).size());
+    assertEquals(1, validator.validate(new EpochMillisBean(BigInteger.valueOf(value))).size());
+  }
+
+  private static final class EpochSecondsBean {
+
+    @IsoDateTime(epochUnit = IsoDateTime.EpochUnit.SECONDS)
+    private final Object value;
+
+    private EpochSecondsBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenEpochSeconds_whenValidating_thenRangeOfYearsEnforced() {
+    assertTrue(validator.validate(new EpochSecondsBean(1_705_314_600)).isEmpty());
+    assertTrue(validator.validate(new EpochSecondsBean(Integer.MIN_VALUE)).isEmpty());
+    assertTrue(validator.validate(new EpochSecondsBean(31_556_889_832_780_799L)).isEmpty());
+    assertTrue(validator.validate(new EpochSecondsBean(-31_557_014_135_596_800L)).isEmpty());
+    assertEquals(1, validator.validate(new EpochSecondsBean(31_556_889_832_780_800L)).size());
+    assertEquals(1, validator.validate(new EpochSecondsBean(-31_557_014_135_596_801L)).size());
+    assertEquals(
+        1, validator.validate(new EpochSecondsBean(BigInteger.ONE.shiftLeft(64).negate())).size());
+  }
+
+  private static final class UnboundedEpochMillisBean {
+
+    @IsoDateTime private final long value;
+
+    private UnboundedEpochMillisBean(long value) {
+      this.value = value;
+    }
+
+    public long getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenImplausibleEpochMillis_whenValidating_thenOnlyBoundsRejectIt() {
+    long implausible = Long.MAX_VALUE / 1000;
+
+    assertTrue(validator.validate(new UnboundedEpochMillisBean(implausible)).isEmpty());
+    assertEquals(1, validator.validate(new EpochMillisBean(implausible)).size());
+  }
+
+  private static final class EpochNanosBean {
+
+    @IsoDateTime(epochUnit = IsoDateTime.EpochUnit.NANOSECONDS, max = "2300-01-01T00:00Z")
+    private final BigInteger value;
+
+    private EpochNanosBean(BigInteger value) {
+      this.value = value;
+    }
+
+    public BigInteger getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenEpochNanosBeyondLong_whenValidating_thenComparedToBounds() {
+    BigInteger nanosPerSecond = BigInteger.valueOf(1_000_000_000L);
+    BigInteger year2262 = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+    BigInteger year2300 = BigInteger.valueOf(10_413_792_000L).multiply(nanosPerSecond);
+
+    assertTrue(validator.validate(new EpochNanosBean(year2262)).isEmpty());
+    assertTrue(validator.validate(new EpochNanosBean(year2300)).isEmpty());
+    assertEquals(1, validator.validate(new EpochNanosBean(year2300.add(BigInteger.ONE))).size());
+    assertTrue(validator.validate(new EpochNanosBean(year2262.negate())).isEmpty());
+  }
+
+  private static final class EpochPastBean {
+
+    @IsoDateTime(epochUnit = IsoDateTime.EpochUnit.MICROSECONDS, past = true)
+    private final long value;
+
+    private EpochPastBean(long value) {
+      this.value = value;
+    }
+
+    public long getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenEpochMicros_whenValidatingPast_thenComparedToClock() {
+    Validator fixed = validatorAt("2024-06-15T12:00:00.000001Z", "Europe/Warsaw");
+
+    assertTrue(fixed.validate(new EpochPastBean(1_718_452_800_000_000L)).isEmpty());
+    assertEquals(1, fixed.validate(new EpochPastBean(1_718_452_800_000_001L)).size());
+    assertEquals(1, fixed.validate(new EpochPastBean(1_718_452_800_000_002L)).size());
+  }
+
+  private static final class EpochDoubleBean {
+
+    @IsoDateTime private final Object value;
+
+    private EpochDoubleBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenFloatingPointEpoch_whenValidating_thenThrowsException() {
+    EpochDoubleBean bean = new EpochDoubleBean(1.5d);
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("IsoDateTime not supported for java.lang.Double type", e.getCause().getMessage());
+  }
+
   // ----- Repeatable annotations -----
 
   private static final class RepeatableBean {
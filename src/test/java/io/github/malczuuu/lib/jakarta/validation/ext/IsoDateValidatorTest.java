@@ -27,6 +27,9 @@
 import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
@@ -60,7 +63,7 @@ private StringBean(@Nullable String value) {
   }
 
   @ParameterizedTest
-  @ValueSource(strings = {"2024-01-15", "2024-12-31", "2000-02-29"})
+  @ValueSource(strings = {"2024-01-15", "2024-12-31", "2000-02-29", "+10000-01-01", "-0001-12-31"})
   void givenValidDate_whenValidating_thenNoViolation(String value) {
     StringBean bean = new StringBean(value);
 
@@ -71,7 +74,18 @@ void givenValidDate_whenValidating_thenNoViolation(String value) {
 
   @ParameterizedTest
   @ValueSource(
-      strings = {"2024-1-5", "2024-13-01", "2024-01-32", "not-a-date", "2024-01-15T10:30:00"})
+      strings = {
+        "2024-1-5",
+        "2024-13-01",
+        "2024-01-32",
+        "not-a-date",
+        "2024-01-15T10:30:00",
+        "2023-02-29",
+        "2024-04-31",
+        "+2024-01-15",
+        "-0000-01-01",
+        "20240115"
+      })
   void givenInvalidDate_whenValidating_thenViolation(String value) {
     StringBean bean = new StringBean(value);
 
@@ -90,6 +104,286 @@ void givenNullDate_whenValidating_thenNoViolation() {
     assertTrue(violations.isEmpty());
   }
 
+  // ----- formats -----
+
+  private static final class AllFormatsBean {
+
+    @IsoDate(
+        formats = {
+          IsoDate.Format.EXTENDED,
+          IsoDate.Format.BASIC,
+          IsoDate.Format.WEEK,
+          IsoDate.Format.ORDINAL
+        })
+    private final @Nullable String value;
+
+    private AllFormatsBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15",
+        "20240115",
+        "2024-W03-1",
+        "2024-w03-1",
+        "2020-W53-7",
+        "2024-015",
+        "2024-366",
+        "+10000-W01-1",
+        "-0001-365"
+      })
+  void givenDateInAnyFormat_whenAllFormatsAccepted_thenNoViolation(String value) {
+    AllFormatsBean bean = new AllFormatsBean(value);
+
+    Set<ConstraintViolation<AllFormatsBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "20240230",
+        "+20240115",
+        "2024-W3-1",
+        "2024-W00-1",
+        "2024-W53-1",
+        "2024-W03-8",
+        "2024-X03-1",
+        "2023-366",
+        "2024-000",
+        "2024-15",
+        "2024W031"
+      })
+  void givenInvalidDateInAnyFormat_whenAllFormatsAccepted_thenViolation(String value) {
+    AllFormatsBean bean = new AllFormatsBean(value);
+
+    Set<ConstraintViolation<AllFormatsBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class WeekRangeBean {
+
+    @IsoDate(formats = IsoDate.Format.WEEK, min = "2024-01-01", max = "2024-12-29")
+    private final @Nullable String value;
+
+    private WeekRangeBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenWeekDate_whenOnlyWeekFormatAccepted_thenResolvedToCalendarDate() {
+    assertTrue(validator.validate(new WeekRangeBean("2024-W01-1")).isEmpty());
+    assertTrue(validator.validate(new WeekRangeBean("2024-W52-7")).isEmpty());
+    assertEquals(1, validator.validate(new WeekRangeBean("2023-W52-7")).size());
+    assertEquals(1, validator.validate(new WeekRangeBean("2025-W01-1")).size());
+    assertEquals(1, validator.validate(new WeekRangeBean("2024-01-15")).size());
+  }
+
+  private static final class NoFormatsBean {
+
+    @IsoDate(formats = {})
+    private final String value;
+
+    private NoFormatsBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenNoFormats_whenValidating_thenThrowsException() {
+    NoFormatsBean bean = new NoFormatsBean("2024-01-15");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("formats must not be empty", e.getCause().getMessage());
+  }
+
+  // ----- min and max -----
+
+  private static final class RangeBean {
+
+    @IsoDate(min = "2024-01-01", max = "2024-12-31")
+    private final @Nullable String value;
+
+    private RangeBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2024-01-01", "2024-06-15", "2024-12-31"})
+  void givenDateWithinRange_whenValidating_thenNoViolation(String value) {
+    RangeBean bean = new RangeBean(value);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2023-12-31", "2025-01-01", "+10000-01-01", "2024-13-01"})
+  void givenDateOutsideRange_whenValidating_thenViolation(String value) {
+    RangeBean bean = new RangeBean(value);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class InvalidBoundBean {
+
+    @IsoDate(min = "2024-02-30")
+    private final String value;
+
+    private InvalidBoundBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenInvalidBound_whenValidating_thenThrowsException() {
+    InvalidBoundBean bean = new InvalidBoundBean("2024-01-15");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'2024-02-30' is not a valid ISO 8601 date", e.getCause().getMessage());
+  }
+
+  // ----- past and future -----
+
+  private static final class PastBean {
+
+    @IsoDate(past = true)
+    private final @Nullable String value;
+
+    private PastBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  private static final class FutureOrPresentBean {
+
+    @IsoDate(future = true, orPresent = true, clockCacheMillis = 1000)
+    private final @Nullable String value;
+
+    private FutureOrPresentBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenDateRelativeToClock_whenValidatingPast_thenOnlyPastAccepted() {
+    Validator fixed = validatorAt("2024-06-15T23:30:00Z", "Europe/Warsaw");
+
+    assertTrue(fixed.validate(new PastBean("2024-06-15")).isEmpty());
+    assertEquals(1, fixed.validate(new PastBean("2024-06-16")).size());
+    assertEquals(1, fixed.validate(new PastBean("2024-06-17")).size());
+  }
+
+  @Test
+  void givenDateRelativeToClock_whenValidatingFutureOrPresent_thenPresentAccepted() {
+    Validator fixed = validatorAt("2024-06-15T12:00:00Z", "UTC");
+
+    assertEquals(1, fixed.validate(new FutureOrPresentBean("2024-06-14")).size());
+    assertTrue(fixed.validate(new FutureOrPresentBean("2024-06-15")).isEmpty());
+    assertTrue(fixed.validate(new FutureOrPresentBean("2024-06-16")).isEmpty());
+  }
+
+  private static final class PastAndFutureBean {
+
+    @IsoDate(past = true, future = true)
+    private final String value;
+
+    private PastAndFutureBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenPastAndFuture_whenValidating_thenThrowsException() {
+    PastAndFutureBean bean = new PastAndFutureBean("2024-01-15");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("past and future cannot both be set", e.getCause().getMessage());
+  }
+
+  private static final class NegativeClockCacheBean {
+
+    @IsoDate(past = true, clockCacheMillis = -1)
+    private final String value;
+
+    private NegativeClockCacheBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenNegativeClockCache_whenValidating_thenThrowsException() {
+    NegativeClockCacheBean bean = new NegativeClockCacheBean("2024-01-15");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("clockCacheMillis must not be negative, got -1", e.getCause().getMessage());
+  }
+
+  private static Validator validatorAt(String instant, String zone) {
+    Clock clock = Clock.fixed(Instant.parse(instant), ZoneId.of(zone));
+    try (ValidatorFactory factory =
+        Validation.byDefaultProvider()
+            .configure()
+            .clockProvider(() -> clock)
+            .buildValidatorFactory()) {
+      return factory.getValidator();
+    }
+  }
+
   // ----- Repeatable annotations -----
 
   private static final class RepeatableBean {
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IsoDurationValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @IsoDuration private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "PT15M",
+        "P1DT2H",
+        "PT0.5S",
+        "PT1,5S",
+        "-PT10S",
+        "PT-1H30M",
+        "p1dt2h",
+        "PT1.S",
+        "+P1D",
+        "PT9223372036854775807S",
+        "PT-9223372036854775808S"
+      })
+  void givenValidDuration_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "P3M",
+        "PT",
+        "P",
+        "15M",
+        "P1DT",
+        "PT1H1H",
+        "PT1M1H",
+        "PT1.1234567890S",
+        "PT.5S",
+        "P1W",
+        "P106751991167301D",
+        "-PT-9223372036854775808S",
+        " PT1S"
+      })
+  void givenInvalidDuration_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"P2Dt", "P2DT", "-P2Dt", "P-2Dt"})
+  void givenTimeDesignatorWithoutTime_whenValidating_thenViolationUnlikeDurationParse(
+      String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenNullDuration_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  // ----- min and max -----
+
+  private static final class RangeBean {
+
+    @IsoDuration(min = "PT1S", max = "PT1H")
+    private final @Nullable String value;
+
+    private RangeBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PT1S", "PT1.000S", "PT30M", "PT1H", "PT59M60S", "P0DT3600S"})
+  void givenDurationWithinRange_whenValidating_thenNoViolation(String value) {
+    RangeBean bean = new RangeBean(value);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"PT0.999999999S", "PT0S", "-PT1S", "PT1H0.000000001S", "P1D"})
+  void givenDurationOutsideRange_whenValidating_thenViolation(String value) {
+    RangeBean bean = new RangeBean(value);
+
+    Set<ConstraintViolation<RangeBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class InvalidBoundBean {
+
+    @IsoDuration(min = "PT1Y")
+    private final String value;
+
+    private InvalidBoundBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenInvalidBound_whenValidating_thenThrowsException() {
+    InvalidBoundBean bean = new InvalidBoundBean("PT15M");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'PT1Y' is not a valid ISO 8601 duration", e.getCause().getMessage());
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @IsoDuration
+    @IsoDuration(max = "PT1H")
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("PT30M");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("PT2H");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid ISO 8601 duration", violations.iterator().next().getMessage());
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @IsoDuration private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("IsoDuration not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenInvalidDuration_whenValidating_thenDefaultMessage() {
+    StringBean bean = new StringBean("P3M");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid ISO 8601 duration", violations.iterator().next().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@IsoDuration String> values;
+
+    private ListBean(@Nullable List<@IsoDuration String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@IsoDuration String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(List.of("PT1S", "PT15M", "P1D"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("PT1S", "P3M"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid ISO 8601 duration", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}
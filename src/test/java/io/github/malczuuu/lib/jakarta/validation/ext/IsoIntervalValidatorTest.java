@@ -0,0 +1,389 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IsoIntervalValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @IsoInterval private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T00:00Z/2024-02-01T00:00Z",
+        "2024-01-01T00:00/2024-01-01T12:00",
+        "2024-01-01T12:00/2024-01-01T12:00",
+        "2024-01-01T12:00:00.5/2024-01-01T12:00:00.5",
+        "2024-01-01T12:00:00.9/2024-01-01T12:00:01.1",
+        "2024-01-01T02:00+02:00/2024-01-01T00:30Z",
+        "2024-01-01T00:00+05:00/2024-01-01T00:00Z",
+        "2024-01-01T00:00Z/P1DT12H",
+        "2024-01-01T00:00Z/PT0S",
+        "2024-01-01T00:00/+P1D",
+        "2024-01-01t00:00z/pt1h"
+      })
+  void givenValidInterval_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-02-01T00:00Z/2024-01-01T00:00Z",
+        "2024-01-01T12:00:00.5/2024-01-01T12:00:00.4",
+        "2024-01-01T00:00Z/2024-01-01T00:00+00:01",
+        "2024-01-01T00:00Z/-PT1H",
+        "2024-01-01T00:00Z/PT-1H",
+        "2024-01-01T00:00Z/P1M",
+        "2024-01-01/2024-02-01",
+        "P1D/2024-01-01T00:00Z",
+        "2024-01-01T00:00Z",
+        "2024-01-01T00:00Z/",
+        "/2024-01-01T00:00Z",
+        "2024-01-01T00:00Z/2024-02-01T00:00Z/2024-03-01T00:00Z",
+        "2024-01-01T00:00Z--2024-02-01T00:00Z",
+        "2024-01-01T00:00Z/2024-02-32T00:00Z"
+      })
+  void givenInvalidInterval_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T10:00/2024-01-01T12:00+05:00",
+        "2024-01-01T10:00Z/2024-01-01T12:00",
+        "2024-01-01T10:00+01:00/2024-01-02T10:00"
+      })
+  void givenOffsetOnOneEndpoint_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenNullInterval_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  // ----- offsetRequired -----
+
+  private static final class OffsetRequiredBean {
+
+    @IsoInterval(offsetRequired = true)
+    private final @Nullable String value;
+
+    private OffsetRequiredBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T00:00Z/2024-02-01T00:00+01:00",
+        "2024-01-01T00:00+01/2024-02-01T00:00Z",
+        "2024-01-01T00:00Z/P31D"
+      })
+  void givenIntervalWithOffsets_whenValidatingOffsetRequired_thenNoViolation(String value) {
+    OffsetRequiredBean bean = new OffsetRequiredBean(value);
+
+    Set<ConstraintViolation<OffsetRequiredBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T00:00/2024-02-01T00:00Z",
+        "2024-01-01T00:00Z/2024-02-01T00:00",
+        "2024-01-01T00:00/P31D"
+      })
+  void givenIntervalWithoutOffset_whenValidatingOffsetRequired_thenViolation(String value) {
+    OffsetRequiredBean bean = new OffsetRequiredBean(value);
+
+    Set<ConstraintViolation<OffsetRequiredBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- maxSpan -----
+
+  private static final class MaxSpanBean {
+
+    @IsoInterval(maxSpan = "P1D")
+    private final @Nullable String value;
+
+    private MaxSpanBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T00:00Z/2024-01-02T00:00Z",
+        "2024-01-01T00:00:00.5/2024-01-02T00:00:00.5",
+        "2024-01-01T00:00+01:00/2024-01-01T23:00Z",
+        "2024-01-01T00:00Z/PT24H",
+        "2024-01-01T00:00Z/P1D"
+      })
+  void givenIntervalWithinMaxSpan_whenValidating_thenNoViolation(String value) {
+    MaxSpanBean bean = new MaxSpanBean(value);
+
+    Set<ConstraintViolation<MaxSpanBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-01T00:00Z/2024-01-02T00:00:00.000000001Z",
+        "2024-01-01T00:00:00.5/2024-01-02T00:00:00.6",
+        "2024-01-01T00:00Z/2024-01-01T23:00-01:01",
+        "2024-01-01T00:00Z/PT24H0.1S",
+        "2024-01-01T00:00Z/P2D"
+      })
+  void givenIntervalExceedingMaxSpan_whenValidating_thenViolation(String value) {
+    MaxSpanBean bean = new MaxSpanBean(value);
+
+    Set<ConstraintViolation<MaxSpanBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class InvalidMaxSpanBean {
+
+    @IsoInterval(maxSpan = "P1M")
+    private final String value;
+
+    private InvalidMaxSpanBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenInvalidMaxSpan_whenValidating_thenThrowsException() {
+    InvalidMaxSpanBean bean = new InvalidMaxSpanBean("2024-01-01T00:00Z/P1D");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'P1M' is not a valid ISO 8601 duration", e.getCause().getMessage());
+  }
+
+  private static final class NegativeMaxSpanBean {
+
+    @IsoInterval(maxSpan = "-PT1H")
+    private final String value;
+
+    private NegativeMaxSpanBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenNegativeMaxSpan_whenValidating_thenThrowsException() {
+    NegativeMaxSpanBean bean = new NegativeMaxSpanBean("2024-01-01T00:00Z/P1D");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("maxSpan must not be negative, got -PT1H", e.getCause().getMessage());
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @IsoInterval
+    @IsoInterval(maxSpan = "PT1H")
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("2024-01-01T00:00Z/PT30M");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("2024-01-01T00:00Z/PT2H");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid ISO 8601 interval", violations.iterator().next().getMessage());
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @IsoInterval private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("IsoInterval not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenInvalidInterval_whenValidating_thenDefaultMessage() {
+    StringBean bean = new StringBean("2024-02-01T00:00Z/2024-01-01T00:00Z");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid ISO 8601 interval", violations.iterator().next().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@IsoInterval String> values;
+
+    private ListBean(@Nullable List<@IsoInterval String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@IsoInterval String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean =
+        new ListBean(List.of("2024-01-01T00:00Z/2024-02-01T00:00Z", "2024-01-01T00:00Z/P1D"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("2024-01-01T00:00Z/P1D", "2024-01-01T00:00Z/-P1D"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid ISO 8601 interval", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IsoParserTest {
+
+  // ----- parseDate -----
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2024-01-15", "2024-02-29", "0000-01-01", "+12024-01-15", "-0001-12-31"})
+  void givenValidDate_whenParsing_thenSameAsLocalDateParse(String value) {
+    assertEquals(LocalDate.parse(value), IsoParser.parseDate(value));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"", "2024-1-15", "2024-02-30", "2023-02-29", "20240115", "2024-01-15T10:30"})
+  void givenInvalidDate_whenParsing_thenNull(String value) {
+    assertNull(IsoParser.parseDate(value));
+  }
+
+  @Test
+  void givenStringBuilderDate_whenParsing_thenParsed() {
+    assertEquals(LocalDate.of(2024, 1, 15), IsoParser.parseDate(new StringBuilder("2024-01-15")));
+  }
+
+  // ----- parseLocalDateTime -----
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30",
+        "2024-01-15T10:30:00",
+        "2024-01-15T10:30:00.1",
+        "2024-01-15T10:30:00.123456789",
+        "+12024-12-31T23:59:59"
+      })
+  void givenValidLocalDateTime_whenParsing_thenSameAsLocalDateTimeParse(String value) {
+    assertEquals(LocalDateTime.parse(value), IsoParser.parseLocalDateTime(value));
+  }
+
+  @Test
+  void givenLowercaseSeparator_whenParsingLocalDateTime_thenParsed() {
+    assertEquals(
+        LocalDateTime.of(2024, 1, 15, 10, 30), IsoParser.parseLocalDateTime("2024-01-15t10:30"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2024-01-15T24:00", "2024-02-30T10:30", "2024-12-31T24:00:00"})
+  void givenSmartLocalDateTime_whenParsing_thenResolvedAsSmartFormatter(String value) {
+    DateTimeFormatter smart =
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.withResolverStyle(ResolverStyle.SMART);
+
+    assertEquals(LocalDateTime.parse(value, smart), IsoParser.parseLocalDateTime(value));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "2024-01-15",
+        "2024-01-15T",
+        "2024-01-15T10",
+        "2024-01-15T25:00",
+        "2024-01-15T24:00:01",
+        "2024-02-32T10:30",
+        "2024-01-15T10:30:00.1234567890",
+        "2024-01-15T10:30:00Z",
+        "2024-01-15T10:30:00+01:00",
+        "+999999999-12-31T24:00"
+      })
+  void givenInvalidLocalDateTime_whenParsing_thenNull(String value) {
+    assertNull(IsoParser.parseLocalDateTime(value));
+  }
+
+  // ----- parseOffsetDateTime -----
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15T10:30Z",
+        "2024-01-15T10:30:00Z",
+        "2024-01-15T10:30:00.123456789+01:00",
+        "2024-01-15T10:30:00-05:30",
+        "2024-01-15T10:30:00+18:00",
+        "2024-01-15T10:30:00+01:02:03"
+      })
+  void givenValidOffsetDateTime_whenParsing_thenSameAsOffsetDateTimeParse(String value) {
+    assertEquals(OffsetDateTime.parse(value), IsoParser.parseOffsetDateTime(value));
+  }
+
+  @Test
+  void givenLenientOffset_whenParsingOffsetDateTime_thenParsed() {
+    assertEquals(
+        OffsetDateTime.parse("2024-01-15T10:30:00+01:00"),
+        IsoParser.parseOffsetDateTime("2024-01-15t10:30:00+01"));
+    assertEquals(
+        OffsetDateTime.parse("2024-01-15T10:30:00Z"),
+        IsoParser.parseOffsetDateTime("2024-01-15T10:30:00z"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "2024-01-15",
+        "2024-01-15T10:30:00",
+        "2024-01-15T24:00Z",
+        "2024-02-30T10:30:00Z",
+        "2024-01-15T10:30:00+19:00",
+        "2024-01-15T10:30:00+01:60",
+        "2024-01-15T10:30:00 +01:00",
+        "2024-01-15T10:30:00+01:00[Europe/Warsaw]"
+      })
+  void givenInvalidOffsetDateTime_whenParsing_thenNull(String value) {
+    assertNull(IsoParser.parseOffsetDateTime(value));
+  }
+
+  // ----- parseTemporal -----
+
+  @Test
+  void givenEachKind_whenParsingTemporal_thenMatchingType() {
+    assertEquals(LocalDate.of(2024, 1, 15), IsoParser.parseTemporal("2024-01-15"));
+    assertEquals(
+        LocalDateTime.of(2024, 1, 15, 10, 30), IsoParser.parseTemporal("2024-01-15T10:30"));
+    assertEquals(
+        OffsetDateTime.parse("2024-01-15T10:30+01:00"),
+        IsoParser.parseTemporal("2024-01-15T10:30+01:00"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"", "2024-1-15", "2024-01-15T", "2024-01-15T10:30:00+19:00", "T10:30:00Z"})
+  void givenInvalidTemporal_whenParsing_thenNull(String value) {
+    assertNull(IsoParser.parseTemporal(value));
+  }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IsoTemporalValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @IsoTemporal private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2024-01-15",
+        "+12024-01-15",
+        "2024-01-15T10:30",
+        "2024-01-15T10:30:00.123456789",
+        "2024-01-15t10:30:00",
+        "2024-01-15T10:30:00Z",
+        "2024-01-15T10:30:00+01:00",
+        "2024-01-15T10:30:00+01",
+        "2024-01-15T10:30-05:30"
+      })
+  void givenValidTemporal_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "2024-1-15",
+        "2024-02-30",
+        "20240115",
+        "2024-01-15T",
+        "2024-01-15T25:00",
+        "2024-02-30T10:30:00Z",
+        "2024-01-15T10:30:00+19:00",
+        "2024-01-15T10:30:00 +01:00",
+        "10:30:00",
+        "T10:30:00Z",
+        "2024-01-15T10:30:00[Europe/Warsaw]"
+      })
+  void givenInvalidTemporal_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenNullTemporal_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  // ----- accept -----
+
+  private static final class DateOrOffsetBean {
+
+    @IsoTemporal(accept = {IsoTemporal.Kind.DATE, IsoTemporal.Kind.OFFSET_DATE_TIME})
+    private final String value;
+
+    private DateOrOffsetBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2024-01-15", "2024-01-15T10:30:00Z", "2024-01-15T10:30:00+01:00"})
+  void givenAcceptedKind_whenValidating_thenNoViolation(String value) {
+    DateOrOffsetBean bean = new DateOrOffsetBean(value);
+
+    Set<ConstraintViolation<DateOrOffsetBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2024-01-15T10:30:00", "2024-01-15T10:30"})
+  void givenNotAcceptedKind_whenValidating_thenViolation(String value) {
+    DateOrOffsetBean bean = new DateOrOffsetBean(value);
+
+    Set<ConstraintViolation<DateOrOffsetBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class DateTimeOnlyBean {
+
+    @IsoTemporal(accept = IsoTemporal.Kind.DATE_TIME)
+    private final String value;
+
+    private DateTimeOnlyBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenSingleAcceptedKind_whenValidating_thenOtherKindsRejected() {
+    assertTrue(validator.validate(new DateTimeOnlyBean("2024-01-15T10:30:00")).isEmpty());
+    assertEquals(1, validator.validate(new DateTimeOnlyBean("2024-01-15")).size());
+    assertEquals(1, validator.validate(new DateTimeOnlyBean("2024-01-15T10:30:00Z")).size());
+  }
+
+  private static final class EmptyAcceptBean {
+
+    @IsoTemporal(accept = {})
+    private final String value;
+
+    private EmptyAcceptBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenEmptyAccept_whenValidating_thenThrowsException() {
+    EmptyAcceptBean bean = new EmptyAcceptBean("2024-01-15");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("accept must not be empty", e.getCause().getMessage());
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @IsoTemporal
+    @IsoTemporal(accept = IsoTemporal.Kind.DATE)
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("2024-01-15");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("2024-01-15T10:30:00");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must be a valid ISO 8601 date or date-time", violations.iterator().next().getMessage());
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @IsoTemporal private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("IsoTemporal not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenInvalidTemporal_whenValidating_thenDefaultMessage() {
+    StringBean bean = new StringBean("2024-01-15T");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must be a valid ISO 8601 date or date-time", violations.iterator().next().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@IsoTemporal String> values;
+
+    private ListBean(@Nullable List<@IsoTemporal String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@IsoTemporal String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean =
+        new ListBean(List.of("2024-01-15", "2024-01-15T10:30:00", "2024-01-15T10:30:00Z"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("2024-01-15", "2024-01-15T"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals(
+        "must be a valid ISO 8601 date or date-time", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}
@@ -70,7 +70,11 @@ private StringBean(@Nullable String value) {
         "10:30:00Z",
         "10:30:00+05:30",
         "10:30:00-03:00",
-        "10:30:00.123456789Z"
+        "10:30:00.123456789Z",
+        "24:00",
+        "24:00:00.000",
+        "10:30:00.",
+        "10:30+23:59:59"
       })
   void givenValidTime_whenValidating_thenNoViolation(String value) {
     StringBean bean = new StringBean(value);
@@ -81,7 +85,18 @@ void givenValidTime_whenValidating_thenNoViolation(String value) {
   }
 
   @ParameterizedTest
-  @ValueSource(strings = {"25:00:00", "10:60:00", "not-a-time", "2024-01-15T10:30:00"})
+  @ValueSource(
+      strings = {
+        "25:00:00",
+        "10:60:00",
+        "not-a-time",
+        "2024-01-15T10:30:00",
+        "24:00:01",
+        "10:30:60",
+        "10:30z",
+        "10:30+05",
+        "10:30:00.1234567890"
+      })
   void givenInvalidTime_whenValidating_thenViolation(String value) {
     StringBean bean = new StringBean(value);
 
@@ -117,7 +132,7 @@ private OffsetRequiredBean(@Nullable String value) {
   }
 
   @ParameterizedTest
-  @ValueSource(strings = {"10:30:00Z", "10:30:00+05:30"})
+  @ValueSource(strings = {"10:30:00Z", "10:30:00+05:30", "10:30z"})
   void givenValidTimeWithOffset_whenOffsetRequired_thenNoViolation(String value) {
     OffsetRequiredBean bean = new OffsetRequiredBean(value);
 
@@ -126,6 +141,16 @@ void givenValidTimeWithOffset_whenOffsetRequired_thenNoViolation(String value) {
     assertTrue(violations.isEmpty());
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"24:00Z", "10:30+05", "10:30+0530"})
+  void givenInvalidTimeWithOffset_whenOffsetRequired_thenViolation(String value) {
+    OffsetRequiredBean bean = new OffsetRequiredBean(value);
+
+    Set<ConstraintViolation<OffsetRequiredBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
   @Test
   void givenTimeWithoutOffset_whenOffsetRequired_thenViolation() {
     OffsetRequiredBean bean = new OffsetRequiredBean("10:30:00");
@@ -145,6 +170,158 @@ void givenNullTime_whenOffsetRequired_thenNoViolation() {
     assertTrue(violations.isEmpty());
   }
 
+  // ----- secondsRequired and maxFractionDigits -----
+
+  private static final class PrecisionBean {
+
+    @IsoTime(secondsRequired = true, maxFractionDigits = 3)
+    private final @Nullable String value;
+
+    private PrecisionBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10:30:00", "10:30:00.", "10:30:00.123", "10:30:00.1Z"})
+  void givenSecondsAndMillis_whenPrecisionRestricted_thenNoViolation(String value) {
+    PrecisionBean bean = new PrecisionBean(value);
+
+    Set<ConstraintViolation<PrecisionBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10:30", "10:30Z", "10:30:00.1234", "10:30:00.123456789Z"})
+  void givenMissingSecondsOrExtraDigits_whenPrecisionRestricted_thenViolation(String value) {
+    PrecisionBean bean = new PrecisionBean(value);
+
+    Set<ConstraintViolation<PrecisionBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  private static final class NoFractionBean {
+
+    @IsoTime(maxFractionDigits = 0)
+    private final @Nullable String value;
+
+    private NoFractionBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenDecimalPoint_whenFractionsRejected_thenViolation() {
+    assertTrue(validator.validate(new NoFractionBean("10:30:00")).isEmpty());
+    assertEquals(1, validator.validate(new NoFractionBean("10:30:00.")).size());
+    assertEquals(1, validator.validate(new NoFractionBean("10:30:00.Z")).size());
+    assertEquals(1, validator.validate(new NoFractionBean("10:30:00.1")).size());
+  }
+
+  private static final class InvalidFractionDigitsBean {
+
+    @IsoTime(maxFractionDigits = 10)
+    private final String value;
+
+    private InvalidFractionDigitsBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenMaxFractionDigitsOutOfRange_whenValidating_thenThrowsException() {
+    InvalidFractionDigitsBean bean = new InvalidFractionDigitsBean("10:30");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("maxFractionDigits must be between 0 and 9, got 10", e.getCause().getMessage());
+  }
+
+  // ----- offsetPolicy -----
+
+  private static final class UtcOnlyBean {
+
+    @IsoTime(offsetPolicy = OffsetPolicy.UTC_ONLY)
+    private final @Nullable String value;
+
+    private UtcOnlyBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  private static final class NonZeroBean {
+
+    @IsoTime(offsetPolicy = OffsetPolicy.NON_ZERO)
+    private final @Nullable String value;
+
+    private NonZeroBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10:30:00", "10:30:00Z", "10:30:00+00:00", "10:30:00-00:00"})
+  void givenUtcOrNoOffset_whenUtcOnly_thenNoViolation(String value) {
+    UtcOnlyBean bean = new UtcOnlyBean(value);
+
+    Set<ConstraintViolation<UtcOnlyBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10:30:00+05:30", "10:30:00-00:00:01", "10:30:00+01:00"})
+  void givenNonZeroOffset_whenUtcOnly_thenViolation(String value) {
+    UtcOnlyBean bean = new UtcOnlyBean(value);
+
+    Set<ConstraintViolation<UtcOnlyBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10:30:00", "10:30:00+05:30", "10:30:00-00:00:01"})
+  void givenNonZeroOrNoOffset_whenNonZero_thenNoViolation(String value) {
+    NonZeroBean bean = new NonZeroBean(value);
+
+    Set<ConstraintViolation<NonZeroBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10:30:00Z", "10:30:00+00:00"})
+  void givenZeroOffset_whenNonZero_thenViolation(String value) {
+    NonZeroBean bean = new NonZeroBean(value);
+
+    Set<ConstraintViolation<NonZeroBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
   // ----- Repeatable annotations -----
 
   private static final class RepeatableBean {
@@ -28,6 +28,7 @@
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -89,6 +90,324 @@ void givenNullValue_whenValidating_thenNoViolation() {
     assertTrue(violations.isEmpty());
   }
 
+  // ----- Grammar -----
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "zh-yue-HK",
+        "es-419",
+        "de-CH-1901",
+        "sl-rozaj-biske",
+        "en-US-u-ca-gregory",
+        "en-a-bbb-x-a-ccc",
+        "x-whatever",
+        "en-x-1",
+        "EN-us",
+        "i-klingon",
+        "EN-GB-OED",
+        "zh-min-nan",
+        "sgn-BE-FR"
+      })
+  void givenWellFormedLanguageTag_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "en-",
+        "-en",
+        "e",
+        "abcdefghi",
+        "en-US-Latn",
+        "en-abc-abc-abc-abc",
+        "en-a",
+        "en-a-x-foo",
+        "en-1-foo",
+        "en-x",
+        "en-x-abcdefghi",
+        "en_US",
+        "i-foo",
+        "sgn-BE-DE"
+      })
+  void givenIllFormedLanguageTag_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid language tag", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenStringBuilder_whenValidating_thenNoViolation() {
+    CharSequenceBean bean = new CharSequenceBean(new StringBuilder("sr-Latn-RS"));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  private static final class CharSequenceBean {
+
+    @LanguageTag private final CharSequence value;
+
+    private CharSequenceBean(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  // ----- Registered conformance -----
+
+  private static final class RegisteredBean {
+
+    @LanguageTag(conformance = LanguageTag.Conformance.REGISTERED)
+    private final CharSequence value;
+
+    private RegisteredBean(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "en-US",
+        "zh-Hant-TW",
+        "zh-yue-HK",
+        "sl-rozaj-biske",
+        "es-419",
+        "qaa",
+        "de-CH-1901",
+        "EN-latn-us",
+        "en-QM",
+        "en-US-u-ca-gregory",
+        "en-x-anything",
+        "i-klingon"
+      })
+  void givenRegisteredLanguageTag_whenValidatingRegistered_thenNoViolation(String value) {
+    RegisteredBean bean = new RegisteredBean(value);
+
+    Set<ConstraintViolation<RegisteredBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"xx-QQ", "zz", "en-UU", "en-Xyzw", "en-999", "en-abcde", "en-zzz", "abcde", "en-"})
+  void givenUnregisteredLanguageTag_whenValidatingRegistered_thenViolation(String value) {
+    RegisteredBean bean = new RegisteredBean(value);
+
+    Set<ConstraintViolation<RegisteredBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid language tag", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenUnregisteredStringBuilder_whenValidatingRegistered_thenViolation() {
+    RegisteredBean bean = new RegisteredBean(new StringBuilder("en-Xyzw"));
+
+    Set<ConstraintViolation<RegisteredBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- allowed -----
+
+  private static final class AllowedBean {
+
+    @LanguageTag(allowed = {"en", "en-GB", "pl", "zh-Hant"})
+    private final CharSequence value;
+
+    private AllowedBean(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"en", "EN", "en-US", "en-GB", "en-gb-u-ca-gregory", "pl", "PL-pl", "zh-Hant-TW"})
+  void givenTagMatchingAllowedRange_whenValidating_thenNoViolation(String value) {
+    AllowedBean bean = new AllowedBean(value);
+
+    Set<ConstraintViolation<AllowedBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"de", "eng", "e", "pl_PL", "zh", "zh-Hans", "zh-Hantx", "en--GB", "fr-x-en"})
+  void givenTagNotMatchingAllowedRange_whenValidating_thenViolation(String value) {
+    AllowedBean bean = new AllowedBean(value);
+
+    Set<ConstraintViolation<AllowedBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid language tag", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenStringBuilderMatchingAllowedRange_whenValidating_thenNoViolation() {
+    AllowedBean bean = new AllowedBean(new StringBuilder("en-AU"));
+
+    Set<ConstraintViolation<AllowedBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  private static final class WildcardBean {
+
+    @LanguageTag(allowed = {"pl", "*"})
+    private final String value;
+
+    private WildcardBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenWildcardRange_whenValidatingWellFormedTag_thenNoViolation() {
+    assertTrue(validator.validate(new WildcardBean("de-DE")).isEmpty());
+    assertEquals(1, validator.validate(new WildcardBean("de DE")).size());
+  }
+
+  private static final class MalformedAllowedBean {
+
+    @LanguageTag(allowed = {"en-"})
+    private final String value;
+
+    private MalformedAllowedBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenMalformedAllowedRange_whenValidating_thenThrowsException() {
+    MalformedAllowedBean bean = new MalformedAllowedBean("en");
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("'en-' is not a valid basic language range", e.getCause().getMessage());
+  }
+
+  // ----- Locale -----
+
+  private static final class LocaleBean {
+
+    @LanguageTag private final Locale value;
+
+    private LocaleBean(Locale value) {
+      this.value = value;
+    }
+
+    public Locale getValue() {
+      return value;
+    }
+  }
+
+  private static final class RegisteredLocaleBean {
+
+    @LanguageTag(
+        conformance = LanguageTag.Conformance.REGISTERED,
+        allowed = {"en", "sr", "he"})
+    private final Locale value;
+
+    private RegisteredLocaleBean(Locale value) {
+      this.value = value;
+    }
+
+    public Locale getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"en", "en-US", "sr-Latn-RS", "de-CH-1901", "en-US-u-ca-gregory", "zz-QQ-abcde"})
+  void givenWellFormedLocale_whenValidating_thenNoViolation(String value) {
+    LocaleBean bean = new LocaleBean(Locale.forLanguageTag(value));
+
+    Set<ConstraintViolation<LocaleBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenLocaleWithMalformedFields_whenValidating_thenViolation() {
+    assertEquals(1, validator.validate(new LocaleBean(Locale.ROOT)).size());
+    assertEquals(1, validator.validate(new LocaleBean(Locale.of("en_us"))).size());
+    assertEquals(1, validator.validate(new LocaleBean(Locale.of("en", "USA"))).size());
+    assertEquals(1, validator.validate(new LocaleBean(Locale.of("en", "US", "x"))).size());
+    assertEquals(1, validator.validate(new LocaleBean(Locale.of("en", "US", "abcde_1"))).size());
+  }
+
+  @Test
+  void givenLocaleWithMultipleVariants_whenValidating_thenNoViolation() {
+    LocaleBean bean = new LocaleBean(Locale.of("sl", "", "rozaj_biske"));
+
+    Set<ConstraintViolation<LocaleBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"en", "en-GB", "sr-Latn-RS", "he-IL"})
+  void givenRegisteredAllowedLocale_whenValidating_thenNoViolation(String value) {
+    RegisteredLocaleBean bean = new RegisteredLocaleBean(Locale.forLanguageTag(value));
+
+    Set<ConstraintViolation<RegisteredLocaleBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"de", "en-Xyzw", "en-UU", "en-abcde", "sr-Latn-999"})
+  void givenUnregisteredOrNotAllowedLocale_whenValidating_thenViolation(String value) {
+    RegisteredLocaleBean bean = new RegisteredLocaleBean(Locale.forLanguageTag(value));
+
+    Set<ConstraintViolation<RegisteredLocaleBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid language tag", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenSameLocaleValidatedRepeatedly_whenValidating_thenSameResult() {
+    for (int i = 0; i < 3; i++) {
+      assertTrue(validator.validate(new RegisteredLocaleBean(Locale.UK)).isEmpty());
+      assertEquals(1, validator.validate(new RegisteredLocaleBean(Locale.GERMANY)).size());
+    }
+  }
+
   // ----- Repeatable annotations -----
 
   private static final class RepeatableBean {
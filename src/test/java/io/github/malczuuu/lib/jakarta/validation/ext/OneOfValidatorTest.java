@@ -27,11 +27,14 @@
 import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.nio.CharBuffer;
 import java.util.List;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class OneOfValidatorTest {
 
@@ -211,6 +214,52 @@ void givenInvalidValueOnFieldIgnoreCase_whenValidating_thenViolation() {
     assertEquals("must be one of [X, Y, Z]", violations.iterator().next().getMessage());
   }
 
+  private static final class CharSequenceBeanIgnoreCase {
+
+    @OneOf(
+        values = {"PENDING", "été", "ΟΔΟΣ", "Straße"},
+        ignoreCase = true)
+    private final CharSequence value;
+
+    private CharSequenceBeanIgnoreCase(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"pending", "PeNdInG", "ÉTÉ", "Été", "οδος", "οδοσ", "ΟΔΟΣ", "STRAßE"})
+  void givenValidValueIgnoreCase_whenValidating_thenNoViolation(String value) {
+    CharSequenceBeanIgnoreCase bean = new CharSequenceBeanIgnoreCase(value);
+
+    Set<ConstraintViolation<CharSequenceBeanIgnoreCase>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "pendin", "pending ", "ete", "odos", "STRASSE"})
+  void givenInvalidValueIgnoreCase_whenValidating_thenViolation(String value) {
+    CharSequenceBeanIgnoreCase bean = new CharSequenceBeanIgnoreCase(value);
+
+    Set<ConstraintViolation<CharSequenceBeanIgnoreCase>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenStringBuilderIgnoreCase_whenValidating_thenComparedByContent() {
+    assertTrue(
+        validator.validate(new CharSequenceBeanIgnoreCase(new StringBuilder("Pending"))).isEmpty());
+    assertTrue(
+        validator.validate(new CharSequenceBeanIgnoreCase(CharBuffer.wrap("ÉtÉ"))).isEmpty());
+    assertEquals(
+        1, validator.validate(new CharSequenceBeanIgnoreCase(new StringBuilder("Pend"))).size());
+  }
+
   private enum TestEnum {
     A,
     B,
@@ -481,6 +530,85 @@ void givenNullCharacterIgnoreCase_whenValidating_thenNoViolation() {
     assertTrue(violations.isEmpty());
   }
 
+  private static final class CharSequenceBean {
+
+    @OneOf(values = {"Aa", "BB", "PENDING", "ACTIVE"})
+    private final CharSequence value;
+
+    private CharSequenceBean(CharSequence value) {
+      this.value = value;
+    }
+
+    public CharSequence getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenValidStringBuilder_whenValidating_thenNoViolation() {
+    CharSequenceBean bean = new CharSequenceBean(new StringBuilder("ACTIVE"));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenInvalidStringBuilder_whenValidating_thenViolation() {
+    CharSequenceBean bean = new CharSequenceBean(new StringBuilder("ACTIVE "));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenValidCharBuffer_whenValidating_thenNoViolation() {
+    CharSequenceBean bean = new CharSequenceBean(CharBuffer.wrap("xxPENDINGxx").subSequence(2, 9));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenInvalidCharBuffer_whenValidating_thenViolation() {
+    CharSequenceBean bean = new CharSequenceBean(CharBuffer.wrap("PENDIN"));
+
+    Set<ConstraintViolation<CharSequenceBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenValuesWithSameHash_whenValidatingCharSequence_thenComparedByContent() {
+    assertTrue(validator.validate(new CharSequenceBean(new StringBuilder("Aa"))).isEmpty());
+    assertTrue(validator.validate(new CharSequenceBean(new StringBuilder("BB"))).isEmpty());
+    assertEquals(1, validator.validate(new CharSequenceBean(new StringBuilder("AB"))).size());
+    assertEquals(1, validator.validate(new CharSequenceBean(new StringBuilder("C#"))).size());
+  }
+
+  private static final class DuplicateValuesBean {
+
+    @OneOf(values = {"A", "B", "A"})
+    private final String value;
+
+    private DuplicateValuesBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenDuplicateValues_whenValidating_thenDuplicatesIgnored() {
+    assertTrue(validator.validate(new DuplicateValuesBean("A")).isEmpty());
+    assertTrue(validator.validate(new DuplicateValuesBean("B")).isEmpty());
+    assertEquals(1, validator.validate(new DuplicateValuesBean("C")).size());
+  }
+
   private static final class UnsupportedBean {
 
     @OneOf(values = {"A"})
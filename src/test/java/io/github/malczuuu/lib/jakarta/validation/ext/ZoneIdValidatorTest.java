@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025-2026 Damian Malczewski
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.malczuuu.lib.jakarta.validation.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ZoneIdValidatorTest {
+
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  private static final class StringBean {
+
+    @ZoneId private final @Nullable String value;
+
+    private StringBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "Europe/Warsaw",
+        "America/New_York",
+        "America/Argentina/Buenos_Aires",
+        "America/Port-au-Prince",
+        "UTC",
+        "GMT",
+        "Etc/GMT+2",
+        "Etc/GMT-14"
+      })
+  void givenValidZoneId_whenValidating_thenNoViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "europe/warsaw",
+        "Europe/Atlantis",
+        "Europe/Warsaw ",
+        "Europe",
+        "Z",
+        "+02:00",
+        "UTC+02:00",
+        "UT"
+      })
+  void givenInvalidZoneId_whenValidating_thenViolation(String value) {
+    StringBean bean = new StringBean(value);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  @Test
+  void givenNullValue_whenValidating_thenNoViolation() {
+    StringBean bean = new StringBean(null);
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenAvailableZoneIds_whenValidating_thenAllAccepted() {
+    for (String zoneId : java.time.ZoneId.getAvailableZoneIds()) {
+      assertTrue(validator.validate(new StringBean(zoneId)).isEmpty(), zoneId);
+    }
+  }
+
+  // ----- ignoreCase -----
+
+  private static final class IgnoreCaseBean {
+
+    @ZoneId(ignoreCase = true)
+    private final @Nullable String value;
+
+    private IgnoreCaseBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"Europe/Warsaw", "europe/warsaw", "EUROPE/WARSAW", "america/new_york", "utc"})
+  void givenIgnoreCase_whenValidating_thenAcceptsAnyCase(String value) {
+    IgnoreCaseBean bean = new IgnoreCaseBean(value);
+
+    Set<ConstraintViolation<IgnoreCaseBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"europe/atlantis", "europe/warsaw/", "utc+02:00"})
+  void givenIgnoreCaseWithUnknownZoneId_whenValidating_thenViolation(String value) {
+    IgnoreCaseBean bean = new IgnoreCaseBean(value);
+
+    Set<ConstraintViolation<IgnoreCaseBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- allowOffsets -----
+
+  private static final class AllowOffsetsBean {
+
+    @ZoneId(allowOffsets = true)
+    private final @Nullable String value;
+
+    private AllowOffsetsBean(@Nullable String value) {
+      this.value = value;
+    }
+
+    public @Nullable String getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "Europe/Warsaw",
+        "Z",
+        "+2",
+        "+02",
+        "-02:30",
+        "+0230",
+        "+02:30:15",
+        "-023015",
+        "+18:00",
+        "UTC+02:00",
+        "GMT-0130",
+        "UT+5",
+        "UT"
+      })
+  void givenOffset_whenOffsetsAllowed_thenNoViolation(String value) {
+    AllowOffsetsBean bean = new AllowOffsetsBean(value);
+
+    Set<ConstraintViolation<AllowOffsetsBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"z", "+18:01", "+1:00", "+02:60", "+02:3", "UTC+", "UTCZ", "utc+02:00", "GM+02"})
+  void givenInvalidOffset_whenOffsetsAllowed_thenViolation(String value) {
+    AllowOffsetsBean bean = new AllowOffsetsBean(value);
+
+    Set<ConstraintViolation<AllowOffsetsBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- java.time.ZoneId -----
+
+  private static final class ZoneIdBean {
+
+    @ZoneId private final java.time.ZoneId value;
+
+    private ZoneIdBean(java.time.ZoneId value) {
+      this.value = value;
+    }
+
+    public java.time.ZoneId getValue() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"Europe/Warsaw", "UTC", "Etc/GMT+2"})
+  void givenRegionZoneId_whenValidating_thenNoViolation(String value) {
+    ZoneIdBean bean = new ZoneIdBean(java.time.ZoneId.of(value));
+
+    Set<ConstraintViolation<ZoneIdBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"Z", "+02:00", "UTC+02:00"})
+  void givenOffsetZoneId_whenOffsetsNotAllowed_thenViolation(String value) {
+    ZoneIdBean bean = new ZoneIdBean(java.time.ZoneId.of(value));
+
+    Set<ConstraintViolation<ZoneIdBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+  }
+
+  // ----- Repeatable annotations -----
+
+  private static final class RepeatableBean {
+
+    @ZoneId
+    @ZoneId(message = "time zone is invalid")
+    private final String value;
+
+    private RepeatableBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenRepeatableAnnotations_whenValidating_thenBothEnforced() {
+    RepeatableBean validBean = new RepeatableBean("Europe/Warsaw");
+    assertTrue(validator.validate(validBean).isEmpty());
+
+    RepeatableBean invalidBean = new RepeatableBean("Europe/Atlantis");
+    Set<ConstraintViolation<RepeatableBean>> violations = validator.validate(invalidBean);
+    assertEquals(2, violations.size());
+    assertTrue(
+        violations.stream().anyMatch(v -> "must be a valid time zone ID".equals(v.getMessage())));
+    assertTrue(violations.stream().anyMatch(v -> "time zone is invalid".equals(v.getMessage())));
+  }
+
+  // ----- Unsupported type -----
+
+  private static final class UnsupportedBean {
+
+    @ZoneId private final Object value;
+
+    private UnsupportedBean(Object value) {
+      this.value = value;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  @Test
+  void givenUnsupportedType_whenValidating_thenThrowsException() {
+    UnsupportedBean bean = new UnsupportedBean(new Object());
+
+    ValidationException e = assertThrows(ValidationException.class, () -> validator.validate(bean));
+
+    assertNotNull(e.getMessage());
+    assertTrue(e.getMessage().contains("Unexpected exception during isValid call"));
+    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    assertEquals("ZoneId not supported for java.lang.Object type", e.getCause().getMessage());
+  }
+
+  // ----- Message -----
+
+  @Test
+  void givenInvalidZoneId_whenValidating_thenDefaultMessage() {
+    StringBean bean = new StringBean("Europe/Atlantis");
+
+    Set<ConstraintViolation<StringBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid time zone ID", violations.iterator().next().getMessage());
+  }
+
+  // ----- List -----
+
+  private static final class ListBean {
+
+    private final @Nullable List<@ZoneId String> values;
+
+    private ListBean(@Nullable List<@ZoneId String> values) {
+      this.values = values;
+    }
+
+    public @Nullable List<@ZoneId String> getValues() {
+      return values;
+    }
+  }
+
+  @Test
+  void givenListWithAllValidElements_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(List.of("Europe/Warsaw", "Asia/Tokyo", "UTC"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  void givenListWithInvalidElement_whenValidating_thenViolation() {
+    ListBean bean = new ListBean(List.of("Europe/Warsaw", "Europe/Atlantis"));
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertEquals(1, violations.size());
+    assertEquals("must be a valid time zone ID", violations.iterator().next().getMessage());
+  }
+
+  @Test
+  void givenNullList_whenValidating_thenNoViolation() {
+    ListBean bean = new ListBean(null);
+
+    Set<ConstraintViolation<ListBean>> violations = validator.validate(bean);
+
+    assertTrue(violations.isEmpty());
+  }
+}